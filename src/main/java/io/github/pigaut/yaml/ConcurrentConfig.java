@@ -0,0 +1,173 @@
+package io.github.pigaut.yaml;
+
+import io.github.pigaut.yaml.node.*;
+import io.github.pigaut.yaml.node.section.*;
+import io.github.pigaut.yaml.node.sequence.*;
+import io.github.pigaut.yaml.path.*;
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Shares a configuration between threads. Readers get the last published {@link ConfigRoot#freeze() frozen}
+ * snapshot without locking, writers make their changes one at a time and publish a new snapshot once the change
+ * is complete, so readers never see a partial change.
+ * <p>
+ * A change copies the sections and lists on its path and shares every other field with the previous snapshot,
+ * so its cost depends on the length of the path and the size of the branches on it, not on the size of the
+ * configuration. Removing an element of a list also copies every element after it, with the fields inside them,
+ * since their paths change. A root with a {@link PathIndex} also copies its index on each publish. A shared field
+ * keeps the parent it had in the snapshot it was first published in, so {@link ConfigField#getParent()} of a field
+ * read from a snapshot returns a branch with the same path that may belong to an earlier snapshot.
+ * <p>
+ * The snapshots are frozen, so modifying a section or list read from them throws
+ * {@link UnsupportedOperationException}.
+ */
+public class ConcurrentConfig {
+
+    private final Object writeLock = new Object();
+    private volatile ConfigRoot snapshot;
+
+    public ConcurrentConfig(@NotNull ConfigRoot root) {
+        this.snapshot = root.freeze();
+    }
+
+    public @NotNull ConfigRoot getSnapshot() {
+        return snapshot;
+    }
+
+    public @NotNull ConfigSection getSection() {
+        ConfigRoot root = snapshot;
+        Preconditions.checkState(root instanceof ConfigSection, "Configuration is not a section");
+        return (ConfigSection) root;
+    }
+
+    public @NotNull ConfigSequence getSequence() {
+        ConfigRoot root = snapshot;
+        Preconditions.checkState(root instanceof ConfigSequence, "Configuration is not a list");
+        return (ConfigSequence) root;
+    }
+
+    public <T> void set(@NotNull String path, @NotNull T value) {
+        edit(edit -> edit.set(path, value));
+    }
+
+    public void remove(@NotNull String path) {
+        edit(edit -> edit.remove(path));
+    }
+
+    public <T> void set(int index, @Nullable T value) {
+        edit(edit -> edit.set(index, value));
+    }
+
+    public void remove(int index) {
+        edit(edit -> edit.remove(index));
+    }
+
+    /**
+     * Applies every change made through the given edit and publishes them as a single snapshot.
+     * The edit cannot be used once the action returns. If the action throws, none of its changes are published.
+     */
+    public void edit(@NotNull Consumer<? super Edit> action) {
+        synchronized (writeLock) {
+            Edit edit = new Edit(snapshot);
+            try {
+                action.accept(edit);
+            } finally {
+                edit.complete = true;
+            }
+            if (edit.root != null) {
+                snapshot = edit.freeze();
+            }
+        }
+    }
+
+    public void load() throws ConfigLoadException {
+        synchronized (writeLock) {
+            ConfigRoot root = snapshot.thaw();
+            root.load();
+            snapshot = root.freeze();
+        }
+    }
+
+    public boolean save() {
+        synchronized (writeLock) {
+            return snapshot.save();
+        }
+    }
+
+    /**
+     * The changes of a single {@link #edit(Consumer)}. Reads made during the edit should use
+     * {@link #getSnapshot()}, which does not include the changes of the edit until it is published.
+     */
+    public static final class Edit {
+
+        private final ConfigRoot base;
+        private @Nullable Branch root = null;
+        private boolean complete = false;
+
+        private Edit(ConfigRoot base) {
+            this.base = base;
+        }
+
+        public <T> void set(@NotNull String path, @NotNull T value) {
+            Section section = getSection();
+            List<FieldKey> keys = ConfigPath.of(path).getKeys();
+            Branch parent = ConfigFreezer.copyPath(section, keys);
+            if (parent != null && !YamlConfig.isScalar(value)) {
+                ConfigFreezer.copyField(parent, keys.get(keys.size() - 1));
+            }
+            section.set(path, value);
+        }
+
+        public void remove(@NotNull String path) {
+            Section section = getSection();
+            List<FieldKey> keys = ConfigPath.of(path).getKeys();
+            Branch parent = ConfigFreezer.copyPath(section, keys);
+            if (parent instanceof Sequence sequence && keys.get(keys.size() - 1) instanceof IndexKey indexKey) {
+                ConfigFreezer.copyFieldsFrom(sequence, indexKey.getIndex());
+            }
+            section.remove(path);
+        }
+
+        public <T> void set(int index, @Nullable T value) {
+            Sequence sequence = getSequence();
+            if (!YamlConfig.isScalar(value)) {
+                ConfigFreezer.copyField(sequence, new IndexKey(index));
+            }
+            sequence.set(index, value);
+        }
+
+        public void remove(int index) {
+            Sequence sequence = getSequence();
+            ConfigFreezer.copyFieldsFrom(sequence, index);
+            sequence.remove(index);
+        }
+
+        private Section getSection() {
+            Preconditions.checkState(!complete, "Edit is already complete");
+            if (root == null) {
+                Preconditions.checkState(base instanceof RootSection, "Configuration is not a section");
+                root = ((RootSection) base).copyShared();
+            }
+            return (Section) root;
+        }
+
+        private Sequence getSequence() {
+            Preconditions.checkState(!complete, "Edit is already complete");
+            if (root == null) {
+                Preconditions.checkState(base instanceof RootSequence, "Configuration is not a list");
+                root = ((RootSequence) base).copyShared();
+            }
+            return (Sequence) root;
+        }
+
+        private ConfigRoot freeze() {
+            return root instanceof RootSection section ? section.freezeShared() : ((RootSequence) root).freezeShared();
+        }
+
+    }
+
+}
@@ -0,0 +1,348 @@
+package io.github.pigaut.yaml;
+
+import io.github.pigaut.yaml.node.*;
+import io.github.pigaut.yaml.node.scalar.*;
+import io.github.pigaut.yaml.node.section.*;
+import io.github.pigaut.yaml.node.sequence.*;
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * The structural difference between two trees, as a list of added, removed and changed paths that can be
+ * applied to the first tree to turn it into the second one. Sections are compared key by key and sequences
+ * index by index, a sequence that changed its size is reported as a single change. Comments are not compared.
+ * Added and changed values refer to the fields of the tree the diff was computed against.
+ */
+public class ConfigDiff {
+
+    private final List<Change> changes;
+
+    private ConfigDiff(List<Change> changes) {
+        this.changes = changes;
+    }
+
+    public static @NotNull ConfigDiff compute(@NotNull ConfigSection before, @NotNull ConfigSection after) {
+        List<Change> changes = new ArrayList<>();
+        diffSection(before, after, new ArrayList<>(), changes);
+        return new ConfigDiff(Collections.unmodifiableList(changes));
+    }
+
+    public static @NotNull ConfigDiff compute(@NotNull ConfigSequence before, @NotNull ConfigSequence after) {
+        List<Change> changes = new ArrayList<>();
+        diffSequence(before, after, new ArrayList<>(), changes);
+        return new ConfigDiff(Collections.unmodifiableList(changes));
+    }
+
+    public @NotNull List<Change> getChanges() {
+        return changes;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public @NotNull Set<String> getChangedPaths() {
+        Set<String> paths = new LinkedHashSet<>();
+        for (Change change : changes) {
+            paths.add(change.getPath());
+        }
+        return paths;
+    }
+
+    /**
+     * Returns true if a change was made at, inside or above the given path. Reordered keys only affect their section.
+     */
+    public boolean affects(@NotNull String path) {
+        for (Change change : changes) {
+            String changedPath = change.getPath();
+            if (change.getType() == ChangeType.REORDERED) {
+                if (changedPath.equals(path)) {
+                    return true;
+                }
+                continue;
+            }
+            if (changedPath.isEmpty() || isSameOrNested(changedPath, path) || isSameOrNested(path, changedPath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void apply(@NotNull ConfigBranch target) {
+        for (Change change : changes) {
+            change.apply(target);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return changes.toString();
+    }
+
+    private static boolean isSameOrNested(String path, String parentPath) {
+        if (!path.startsWith(parentPath)) {
+            return false;
+        }
+        if (path.length() == parentPath.length()) {
+            return true;
+        }
+        char next = path.charAt(parentPath.length());
+        return next == '.' || next == '[';
+    }
+
+    private static void diffField(ConfigField before, ConfigField after, List<Object> steps, List<Change> changes) {
+        if (before instanceof ConfigSection beforeSection && after instanceof ConfigSection afterSection) {
+            diffSection(beforeSection, afterSection, steps, changes);
+        }
+        else if (before instanceof ConfigSequence beforeSequence && after instanceof ConfigSequence afterSequence) {
+            diffSequence(beforeSequence, afterSequence, steps, changes);
+        }
+        else if (before instanceof ConfigScalar beforeScalar && after instanceof ConfigScalar afterScalar) {
+            if (!beforeScalar.getValue().equals(afterScalar.getValue())) {
+                changes.add(new Change(ChangeType.CHANGED, steps, after, null));
+            }
+        }
+        else {
+            changes.add(new Change(ChangeType.CHANGED, steps, after, null));
+        }
+    }
+
+    private static void diffSection(ConfigSection before, ConfigSection after, List<Object> steps, List<Change> changes) {
+        Section beforeSection = (Section) before;
+        Section afterSection = (Section) after;
+
+        List<String> expectedOrder = new ArrayList<>(beforeSection.size());
+        List<String> afterOrder = new ArrayList<>(afterSection.size());
+        for (KeyedField beforeField : beforeSection) {
+            String key = beforeField.getKey();
+            if (afterSection.getNode(key) == null) {
+                changes.add(new Change(ChangeType.REMOVED, append(steps, key), null, null));
+                continue;
+            }
+            expectedOrder.add(key);
+        }
+
+        for (KeyedField afterField : afterSection) {
+            String key = afterField.getKey();
+            afterOrder.add(key);
+            KeyedField beforeField = beforeSection.getNode(key);
+            if (beforeField == null) {
+                expectedOrder.add(key);
+                changes.add(new Change(ChangeType.ADDED, append(steps, key), afterField, null));
+                continue;
+            }
+            steps.add(key);
+            diffField(beforeField, afterField, steps, changes);
+            steps.remove(steps.size() - 1);
+        }
+
+        if (!expectedOrder.equals(afterOrder)) {
+            changes.add(new Change(ChangeType.REORDERED, steps, null, afterOrder));
+        }
+    }
+
+    private static void diffSequence(ConfigSequence before, ConfigSequence after, List<Object> steps, List<Change> changes) {
+        Sequence beforeSequence = (Sequence) before;
+        Sequence afterSequence = (Sequence) after;
+        if (beforeSequence.size() != afterSequence.size()) {
+            changes.add(new Change(ChangeType.CHANGED, steps, after, null));
+            return;
+        }
+        // Reading the elements as fields would unpack both sequences, equal packed numbers are compared directly
+        if (isSamePackedNumbers(beforeSequence, afterSequence)) {
+            return;
+        }
+
+        for (int i = 0; i < afterSequence.size(); i++) {
+            steps.add(i);
+            diffField(beforeSequence.getNode(i), afterSequence.getNode(i), steps, changes);
+            steps.remove(steps.size() - 1);
+        }
+    }
+
+    private static boolean isSamePackedNumbers(Sequence before, Sequence after) {
+        for (int i = 0; i < before.size(); i++) {
+            Object beforeValue = before.getPackedValue(i);
+            if (beforeValue == null || !beforeValue.equals(after.getPackedValue(i))) {
+                return false;
+            }
+        }
+        return before.size() != 0;
+    }
+
+    private static List<Object> append(List<Object> steps, Object step) {
+        List<Object> newSteps = new ArrayList<>(steps.size() + 1);
+        newSteps.addAll(steps);
+        newSteps.add(step);
+        return newSteps;
+    }
+
+    public enum ChangeType {
+        ADDED,
+        REMOVED,
+        CHANGED,
+        REORDERED
+    }
+
+    public static class Change {
+
+        private final ChangeType type;
+        private final Object[] steps;
+        private final String path;
+        private final @Nullable ConfigField value;
+        private final @Nullable List<String> keysOrder;
+
+        private Change(ChangeType type, List<Object> steps, @Nullable ConfigField value, @Nullable List<String> keysOrder) {
+            this.type = type;
+            this.steps = steps.toArray();
+            this.path = toPath(this.steps);
+            this.value = value;
+            this.keysOrder = keysOrder != null ? List.copyOf(keysOrder) : null;
+        }
+
+        public @NotNull ChangeType getType() {
+            return type;
+        }
+
+        public @NotNull String getPath() {
+            return path;
+        }
+
+        public @Nullable ConfigField getValue() {
+            return value;
+        }
+
+        public @Nullable List<String> getKeysOrder() {
+            return keysOrder;
+        }
+
+        private void apply(ConfigBranch target) {
+            if (steps.length == 0) {
+                if (type == ChangeType.REORDERED) {
+                    ((Section) target).reorderFields(keysOrder);
+                    return;
+                }
+                Preconditions.checkState(value instanceof ConfigSequence && target instanceof Sequence,
+                        "Cannot replace the root with another type");
+                Sequence sequence = (Sequence) target;
+                sequence.clear();
+                ConfigTreeBuilder.copy((Field) value, sequence);
+                return;
+            }
+
+            Branch parent = (Branch) target;
+            for (int i = 0; i < steps.length - 1; i++) {
+                ConfigField field = getNode(parent, steps[i]);
+                Preconditions.checkState(field instanceof Branch, "Cannot apply change, path not found: " + path);
+                parent = (Branch) field;
+            }
+
+            Object lastStep = steps[steps.length - 1];
+            switch (type) {
+                case REMOVED -> ((Section) parent).removeNode((String) lastStep);
+                case REORDERED -> {
+                    ConfigField field = getNode(parent, lastStep);
+                    Preconditions.checkState(field instanceof Section, "Cannot apply change, path not found: " + path);
+                    ((Section) field).reorderFields(keysOrder);
+                }
+                default -> set(parent, lastStep, (Field) value);
+            }
+        }
+
+        // A field of another type is replaced at the same position
+        private static void set(Branch parent, Object step, Field value) {
+            ConfigField existing = getNode(parent, step);
+            if (value instanceof Scalar scalar && existing instanceof Scalar existingScalar) {
+                existingScalar.setValue(scalar.getValue());
+                return;
+            }
+
+            Field field;
+            if (value instanceof Section) {
+                field = existing instanceof Section ? (Field) existing : createSection(parent, step);
+            }
+            else if (value instanceof Sequence) {
+                field = existing instanceof Sequence ? (Field) existing : createSequence(parent, step);
+            }
+            else {
+                field = createScalar(parent, step);
+            }
+            field.clear();
+            ConfigTreeBuilder.copy(value, field);
+
+            if (value instanceof KeyedField keyedValue && field instanceof KeyedField keyedField) {
+                ConfigScalar valueKey = keyedValue.getKeyScalar();
+                ConfigScalar fieldKey = keyedField.getKeyScalar();
+                fieldKey.setBlockComments(valueKey.getBlockComments());
+                fieldKey.setInLineComments(valueKey.getInLineComments());
+            }
+        }
+
+        private static @Nullable ConfigField getNode(Branch branch, Object step) {
+            if (step instanceof String key) {
+                return branch instanceof Section section ? section.getNode(key) : null;
+            }
+            return branch instanceof Sequence sequence ? sequence.getNode((Integer) step) : null;
+        }
+
+        private static Field createSection(Branch parent, Object step) {
+            if (parent instanceof Section section) {
+                KeyedSection newSection = new KeyedSection(section, (String) step);
+                section.addNode(newSection);
+                return newSection;
+            }
+            Sequence sequence = (Sequence) parent;
+            KeylessSection newSection = new KeylessSection(sequence, (Integer) step);
+            sequence.addNode(newSection);
+            return newSection;
+        }
+
+        private static Field createSequence(Branch parent, Object step) {
+            if (parent instanceof Section section) {
+                KeyedSequence newSequence = new KeyedSequence(section, (String) step);
+                section.addNode(newSequence);
+                return newSequence;
+            }
+            Sequence sequence = (Sequence) parent;
+            KeylessSequence newSequence = new KeylessSequence(sequence, (Integer) step);
+            sequence.addNode(newSequence);
+            return newSequence;
+        }
+
+        private static Field createScalar(Branch parent, Object step) {
+            if (parent instanceof Section section) {
+                KeyedScalar newScalar = new KeyedScalar(section, (String) step, "");
+                section.addNode(newScalar);
+                return newScalar;
+            }
+            Sequence sequence = (Sequence) parent;
+            KeylessScalar newScalar = new KeylessScalar(sequence, (Integer) step, "");
+            sequence.addNode(newScalar);
+            return newScalar;
+        }
+
+        private static String toPath(Object[] steps) {
+            StringBuilder path = new StringBuilder();
+            for (Object step : steps) {
+                if (step instanceof Integer index) {
+                    path.append('[').append(index).append(']');
+                    continue;
+                }
+                if (path.length() > 0) {
+                    path.append('.');
+                }
+                path.append(step);
+            }
+            return path.toString();
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + path;
+        }
+
+    }
+
+}
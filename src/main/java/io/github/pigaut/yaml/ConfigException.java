@@ -2,4 +2,21 @@ package io.github.pigaut.yaml;
 
 public abstract class ConfigException extends Exception {
 
+    private static volatile boolean stackTraceEnabled = false;
+
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    // Config errors are reported by their file and path, filling the stack trace is only useful for debugging
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    // The cause and suppressed exceptions work as usual, only the stack trace is skipped
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return stackTraceEnabled ? super.fillInStackTrace() : this;
+    }
+
 }
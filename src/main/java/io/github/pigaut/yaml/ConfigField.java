@@ -26,12 +26,18 @@ public interface ConfigField {
 
     void replaceAll(@NotNull CharSequence target, @NotNull CharSequence replacement);
 
+    /**
+     * Returns an unmodifiable view of the comments above this field, they are changed through the methods below.
+     */
     List<CommentLine> getBlockComments();
     void setBlockComments(@Nullable List<CommentLine> blockComments);
     void clearBlockComments();
     void addBlockComment(@NotNull String value);
     void addBlockBlankLine();
 
+    /**
+     * Returns an unmodifiable view of the comments after this field, they are changed through the methods below.
+     */
     List<CommentLine> getInLineComments();
     void setInLineComments(@Nullable List<CommentLine> inLineComments);
     void clearInlineComments();
@@ -17,6 +17,15 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
         super(field, exception, existsInConfig);
     }
 
+    protected ConfigList(@NotNull ConfigField field, @Nullable String errorKey, int errorIndex,
+                         @NotNull String errorDetails, boolean existsInConfig) {
+        super(field, errorKey, errorIndex, errorDetails, existsInConfig);
+    }
+
+    protected ConfigList(@NotNull AbstractOptional<?> invalid) {
+        super(invalid);
+    }
+
     public static <E> ConfigList<E> of(@NotNull ConfigField field, @NotNull List<E> elements) {
         return new ConfigList<>(field, elements, true);
     }
@@ -30,7 +39,7 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
             return value;
         }
         else if (existsInConfig()) {
-            throw exception;
+            throw exception();
         }
         return List.of();
     }
@@ -66,7 +75,7 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
             if (requirement.test(value)) {
                 return this;
             }
-            return new ConfigList<>(field, new InvalidConfigException(field, errorDetails), existsInConfig);
+            return new ConfigList<>(field, null, -1, errorDetails, existsInConfig);
         }
     }
 
@@ -78,7 +87,7 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
         Objects.requireNonNull(requirement);
         Objects.requireNonNull(errorDetails);
         if (isInvalid()) {
-            throw exception;
+            throw exception();
         } else {
             if (requirement.test(value)) {
                 return value;
@@ -100,7 +109,7 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
         else {
             for (E element : value) {
                 if (!requirement.test(element)) {
-                    return new ConfigList<>(field, new InvalidConfigException(field, errorDetails), existsInConfig);
+                    return new ConfigList<>(field, null, -1, errorDetails, existsInConfig);
                 }
             }
             return this;
@@ -115,7 +124,7 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
             }
         }
         else if (existsInConfig()) {
-            throw exception;
+            throw exception();
         }
     }
 
@@ -128,7 +137,7 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
             }
         }
         else if (existsInConfig()) {
-            errorCollector.accept(exception);
+            errorCollector.accept(exception());
         }
     }
 
@@ -157,14 +166,14 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
             if (condition) {
                 return this;
             }
-            return new ConfigList<>(field, new InvalidConfigException(field, errorDetails), existsInConfig);
+            return new ConfigList<>(field, null, -1, errorDetails, existsInConfig);
         }
     }
 
     public <U> ConfigOptional<U> map(Function<? super List<E>, ? extends U> mapper) {
         Objects.requireNonNull(mapper);
-        if (exception != null) {
-            return new ConfigOptional<>(field, exception, existsInConfig);
+        if (isInvalid()) {
+            return new ConfigOptional<>(this);
         }
         else {
             U mappedValue = Objects.requireNonNull(mapper.apply(value));
@@ -174,8 +183,8 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
 
     public <U> ConfigList<U> flatMap(Function<? super List<E>, ? extends ConfigList<? extends U>> mapper) {
         Objects.requireNonNull(mapper);
-        if (exception != null) {
-            return new ConfigList<>(field, exception, existsInConfig);
+        if (isInvalid()) {
+            return castInvalid();
         }
         else {
             @SuppressWarnings("unchecked")
@@ -184,4 +193,10 @@ public class ConfigList<E> extends AbstractOptional<List<E>> {
         }
     }
 
+    // An invalid optional holds no value, so it can be shared by any element type
+    @SuppressWarnings("unchecked")
+    private <U> ConfigList<U> castInvalid() {
+        return (ConfigList<U>) this;
+    }
+
 }
@@ -17,6 +17,15 @@ public class ConfigOptional<T> extends AbstractOptional<T> {
         super(field, exception, existsInConfig);
     }
 
+    protected ConfigOptional(@NotNull ConfigField field, @Nullable String errorKey, int errorIndex,
+                             @NotNull String errorDetails, boolean existsInConfig) {
+        super(field, errorKey, errorIndex, errorDetails, existsInConfig);
+    }
+
+    protected ConfigOptional(@NotNull AbstractOptional<?> invalid) {
+        super(invalid);
+    }
+
     public static <T extends ConfigField> ConfigOptional<T> of(@NotNull T field) {
         return new ConfigOptional<>(field, field, true);
     }
@@ -26,19 +35,19 @@ public class ConfigOptional<T> extends AbstractOptional<T> {
     }
 
     public static <T> ConfigOptional<T> notSet(@NotNull ConfigField field, @NotNull String cause) {
-        return new ConfigOptional<>(field, new InvalidConfigException(field, cause), false);
+        return new ConfigOptional<>(field, null, -1, cause, false);
     }
 
     public static <T> ConfigOptional<T> notSet(@NotNull ConfigField field, @NotNull String key, @NotNull String cause) {
-        return new ConfigOptional<>(field, new InvalidConfigException(field, key, cause), false);
+        return new ConfigOptional<>(field, key, -1, cause, false);
     }
 
     public static <T> ConfigOptional<T> notSet(@NotNull ConfigField field, int index, @NotNull String cause) {
-        return new ConfigOptional<>(field, new InvalidConfigException(field, index, cause), false);
+        return new ConfigOptional<>(field, null, index, cause, false);
     }
 
     public static <T> ConfigOptional<T> invalid(@NotNull ConfigField field, @NotNull String cause) {
-        return new ConfigOptional<>(field, new InvalidConfigException(field, cause), true);
+        return new ConfigOptional<>(field, null, -1, cause, true);
     }
 
     public static <T> ConfigOptional<T> invalid(@NotNull InvalidConfigException exception) {
@@ -74,7 +83,7 @@ public class ConfigOptional<T> extends AbstractOptional<T> {
             if (requirement.test(value)) {
                 return this;
             }
-            return new ConfigOptional<>(field, new InvalidConfigException(field, errorDetails), existsInConfig);
+            return new ConfigOptional<>(field, null, -1, errorDetails, existsInConfig);
         }
     }
 
@@ -86,7 +95,7 @@ public class ConfigOptional<T> extends AbstractOptional<T> {
         Objects.requireNonNull(requirement);
         Objects.requireNonNull(errorDetails);
         if (isInvalid()) {
-            throw exception;
+            throw exception();
         } else {
             if (requirement.test(value)) {
                 return value;
@@ -102,14 +111,14 @@ public class ConfigOptional<T> extends AbstractOptional<T> {
             if (condition) {
                 return this;
             }
-            return new ConfigOptional<>(field, new InvalidConfigException(field, errorMessage), existsInConfig);
+            return new ConfigOptional<>(field, null, -1, errorMessage, existsInConfig);
         }
     }
 
     public <U> ConfigOptional<U> map(Function<? super T, ? extends U> mapper) {
         Objects.requireNonNull(mapper);
-        if (exception != null) {
-            return new ConfigOptional<>(field, exception, existsInConfig);
+        if (isInvalid()) {
+            return castInvalid();
         } else {
             U mappedValue = Objects.requireNonNull(mapper.apply(value));
             return new ConfigOptional<>(field, mappedValue, existsInConfig);
@@ -118,8 +127,8 @@ public class ConfigOptional<T> extends AbstractOptional<T> {
 
     public <U> ConfigOptional<U> flatMap(Function<? super T, ? extends ConfigOptional<? extends U>> mapper) {
         Objects.requireNonNull(mapper);
-        if (exception != null) {
-            return new ConfigOptional<>(field, exception, existsInConfig);
+        if (isInvalid()) {
+            return castInvalid();
         } else {
             @SuppressWarnings("unchecked")
             ConfigOptional<U> r = (ConfigOptional<U>) mapper.apply(value);
@@ -129,8 +138,8 @@ public class ConfigOptional<T> extends AbstractOptional<T> {
 
     public <U> ConfigList<U> mapToList(Function<? super T, ? extends ConfigList<? extends U>> mapper) {
         Objects.requireNonNull(mapper);
-        if (exception != null) {
-            return new ConfigList<>(field, exception, existsInConfig);
+        if (isInvalid()) {
+            return new ConfigList<>(this);
         } else {
             @SuppressWarnings("unchecked")
             ConfigList<U> r = (ConfigList<U>) mapper.apply(value);
@@ -138,4 +147,10 @@ public class ConfigOptional<T> extends AbstractOptional<T> {
         }
     }
 
+    // An invalid optional holds no value, so it can be shared by any element type
+    @SuppressWarnings("unchecked")
+    private <U> ConfigOptional<U> castInvalid() {
+        return (ConfigOptional<U>) this;
+    }
+
 }
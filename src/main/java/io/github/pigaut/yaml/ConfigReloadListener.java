@@ -0,0 +1,11 @@
+package io.github.pigaut.yaml;
+
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+public interface ConfigReloadListener {
+
+    void onReload(@NotNull ConfigRoot root, @NotNull Set<String> changedPaths);
+
+}
@@ -1,9 +1,11 @@
 package io.github.pigaut.yaml;
 
 import io.github.pigaut.yaml.configurator.*;
+import io.github.pigaut.yaml.node.*;
 import org.jetbrains.annotations.*;
 
 import java.io.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 public interface ConfigRoot extends ConfigField {
@@ -23,6 +25,22 @@ public interface ConfigRoot extends ConfigField {
     @NotNull String getHeader();
     void setHeader(@NotNull String... lines);
 
+    @NotNull LoadProfile getLoadProfile();
+
+    /**
+     * Sets the profile used by the next loads. The save methods throw {@link IllegalStateException} while the
+     * profile does not parse comments, since saving would strip them from the file.
+     */
+    void setLoadProfile(@NotNull LoadProfile profile);
+
+    int getCodePointLimit();
+
+    /**
+     * Sets the most code points the next loads read from a file or stream, {@link ConfigLoad#DEFAULT_CODE_POINT_LIMIT}
+     * unless changed. Loading a larger input throws {@link ConfigLoadException}.
+     */
+    void setCodePointLimit(int codePointLimit);
+
     void load() throws ConfigLoadException;
     void load(@NotNull Consumer<ConfigLoadException> errorCollector);
 
@@ -33,6 +51,50 @@ public interface ConfigRoot extends ConfigField {
     boolean save();
     boolean save(@NotNull File file);
 
+    /**
+     * Writes this configuration to its file on a background thread once the save delay has passed, saves
+     * requested meanwhile are written once. If the default {@link ConfigSaveScheduler} has an owner executor, the
+     * configuration is serialized on it once the delay has passed, otherwise it is serialized on the calling thread
+     * and saves requested meanwhile replace the contents that are written.
+     */
+    @NotNull CompletableFuture<Boolean> saveAsync();
+
+    /**
+     * Writes this configuration to its file on a background thread once the save delay has passed, saves
+     * requested meanwhile are written once. The configuration is only serialized when the delay has passed,
+     * on the owner executor, which must run on the thread that modifies this configuration.
+     */
+    @NotNull CompletableFuture<Boolean> saveAsync(@NotNull Executor ownerExecutor);
+
+    /**
+     * Returns the state of the last file this configuration was loaded from or saved to, used to skip saves
+     * of unchanged contents.
+     */
+    @NotNull ConfigSave getSaveState();
+
+    void saveTo(@NotNull Appendable output) throws IOException;
+    void saveTo(@NotNull OutputStream outputStream) throws IOException;
+
     String saveToString();
 
+    boolean isFrozen();
+
+    /**
+     * Returns an immutable copy of this configuration with compact storage. Every method that would modify the copy
+     * throws {@link UnsupportedOperationException}.
+     * <p>
+     * No field of the copy is written once this method returns: typed values are not memoized and
+     * {@link ConfigScalar#toLine()} returns a new line on each call. Strings holding numbers or percentages are parsed
+     * once here for the number reads of {@link ConfigScalar}, other typed reads such as amounts, delays or enums parse
+     * the string on each call. Once the copy is published safely, for example
+     * through a volatile field, its fields, values, comments and lookups can be read from any thread without locking.
+     * A line read from a frozen scalar is not shared, so it should be read on the thread that created it.
+     */
+    @NotNull ConfigRoot freeze();
+
+    /**
+     * Returns a mutable copy of this configuration that keeps its keys, styles and comments.
+     */
+    @NotNull ConfigRoot thaw();
+
 }
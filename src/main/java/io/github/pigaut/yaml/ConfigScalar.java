@@ -35,4 +35,9 @@ public interface ConfigScalar extends ConfigField {
     ConfigOptional<Float> toFloat();
     ConfigOptional<Double> toDouble();
 
+    boolean toBoolean(boolean def);
+    int toInt(int def);
+    long toLong(long def);
+    double toDouble(double def);
+
 }
@@ -6,6 +6,7 @@ import io.github.pigaut.yaml.node.line.*;
 import io.github.pigaut.yaml.node.scalar.*;
 import io.github.pigaut.yaml.node.section.*;
 import io.github.pigaut.yaml.node.sequence.*;
+import io.github.pigaut.yaml.path.*;
 import org.jetbrains.annotations.*;
 
 import java.util.*;
@@ -21,6 +22,13 @@ public interface ConfigSection extends ConfigBranch, Iterable<KeyedField> {
     <T> void set(@NotNull String path, @NotNull T value);
     void remove(@NotNull String path);
 
+    boolean contains(@NotNull ConfigPath path);
+    boolean isSet(@NotNull ConfigPath path);
+    boolean isSection(@NotNull ConfigPath path);
+    boolean isSequence(@NotNull ConfigPath path);
+    <T> void set(@NotNull ConfigPath path, @NotNull T value);
+    void remove(@NotNull ConfigPath path);
+
     void addDefaults(@NotNull ConfigSection defaultSection);
     void reorderFields(@NotNull List<String> keysOrder);
 
@@ -28,6 +36,10 @@ public interface ConfigSection extends ConfigBranch, Iterable<KeyedField> {
     ConfigSequence getSequenceOrCreate(@NotNull String path);
     ConfigScalar getScalarOrCreate(@NotNull String path);
 
+    ConfigSection getSectionOrCreate(@NotNull ConfigPath path);
+    ConfigSequence getSequenceOrCreate(@NotNull ConfigPath path);
+    ConfigScalar getScalarOrCreate(@NotNull ConfigPath path);
+
     Stream<KeyedField> stream();
     Set<KeyedField> getNestedFields();
     Set<KeyedScalar> getNestedScalars();
@@ -68,6 +80,11 @@ public interface ConfigSection extends ConfigBranch, Iterable<KeyedField> {
     ConfigOptional<Float> getFloat(@NotNull String path);
     ConfigOptional<Double> getDouble(@NotNull String path);
 
+    boolean getBoolean(@NotNull String path, boolean def);
+    int getInt(@NotNull String path, int def);
+    long getLong(@NotNull String path, long def);
+    double getDouble(@NotNull String path, double def);
+
     <T> ConfigList<T> getList(@NotNull String path, Class<T> classType);
     ConfigList<ConfigField> getFieldList(@NotNull String path);
     ConfigList<ConfigScalar> getScalarList(@NotNull String path);
@@ -81,6 +98,46 @@ public interface ConfigSection extends ConfigBranch, Iterable<KeyedField> {
     ConfigList<Float> getFloatList(@NotNull String path);
     ConfigList<Double> getDoubleList(@NotNull String path);
 
+    ConfigOptional<int[]> getIntArray(@NotNull String path);
+    ConfigOptional<long[]> getLongArray(@NotNull String path);
+    ConfigOptional<double[]> getDoubleArray(@NotNull String path);
+
+    <T> @NotNull T getRequired(@NotNull ConfigPath path, @NotNull Class<T> classType) throws InvalidConfigException;
+    <T> ConfigOptional<T> get(@NotNull ConfigPath path, @NotNull Class<T> classType);
+    ConfigOptional<ConfigField> getField(@NotNull ConfigPath path);
+    ConfigOptional<ConfigScalar> getScalar(@NotNull ConfigPath path);
+    ConfigOptional<ConfigSection> getSection(@NotNull ConfigPath path);
+    ConfigOptional<ConfigSequence> getSequence(@NotNull ConfigPath path);
+    ConfigOptional<ConfigLine> getLine(@NotNull ConfigPath path);
+    ConfigOptional<ConfigLine> getLine(@NotNull ConfigPath path, @NotNull LineStyle lineStyle);
+    ConfigOptional<Boolean> getBoolean(@NotNull ConfigPath path);
+    ConfigOptional<Character> getCharacter(@NotNull ConfigPath path);
+    ConfigOptional<String> getString(@NotNull ConfigPath path);
+    ConfigOptional<String> getString(@NotNull ConfigPath path, @NotNull StringFormatter formatter);
+    ConfigOptional<Integer> getInteger(@NotNull ConfigPath path);
+    ConfigOptional<Long> getLong(@NotNull ConfigPath path);
+    ConfigOptional<Float> getFloat(@NotNull ConfigPath path);
+    ConfigOptional<Double> getDouble(@NotNull ConfigPath path);
+
+    boolean getBoolean(@NotNull ConfigPath path, boolean def);
+    int getInt(@NotNull ConfigPath path, int def);
+    long getLong(@NotNull ConfigPath path, long def);
+    double getDouble(@NotNull ConfigPath path, double def);
+
+    <T> ConfigList<T> getList(@NotNull ConfigPath path, Class<T> classType);
+    ConfigList<ConfigScalar> getScalarList(@NotNull ConfigPath path);
+    ConfigList<ConfigSection> getSectionList(@NotNull ConfigPath path);
+    ConfigList<Boolean> getBooleanList(@NotNull ConfigPath path);
+    ConfigList<String> getStringList(@NotNull ConfigPath path);
+    ConfigList<Integer> getIntegerList(@NotNull ConfigPath path);
+    ConfigList<Long> getLongList(@NotNull ConfigPath path);
+    ConfigList<Float> getFloatList(@NotNull ConfigPath path);
+    ConfigList<Double> getDoubleList(@NotNull ConfigPath path);
+
+    ConfigOptional<int[]> getIntArray(@NotNull ConfigPath path);
+    ConfigOptional<long[]> getLongArray(@NotNull ConfigPath path);
+    ConfigOptional<double[]> getDoubleArray(@NotNull ConfigPath path);
+
     String[][] getStringMatrix(@NotNull String path, int rows, int columns);
 
     @NotNull
@@ -62,6 +62,11 @@ public interface ConfigSequence extends ConfigBranch, Iterable<KeylessField> {
     ConfigOptional<Float> getFloat(int index);
     ConfigOptional<Double> getDouble(int index);
 
+    boolean getBoolean(int index, boolean def);
+    int getInt(int index, int def);
+    long getLong(int index, long def);
+    double getDouble(int index, double def);
+
     List<ConfigField> toFieldList();
 
     <T> ConfigList<T> toList(Class<T> classType);
@@ -77,6 +82,10 @@ public interface ConfigSequence extends ConfigBranch, Iterable<KeylessField> {
     ConfigList<Float> toFloatList();
     ConfigList<Double> toDoubleList();
 
+    ConfigOptional<int[]> toIntArray();
+    ConfigOptional<long[]> toLongArray();
+    ConfigOptional<double[]> toDoubleArray();
+
     @NotNull
     ConfigSequence copy();
 
@@ -0,0 +1,282 @@
+package io.github.pigaut.yaml;
+
+import io.github.pigaut.yaml.node.*;
+import io.github.pigaut.yaml.node.section.*;
+import io.github.pigaut.yaml.node.sequence.*;
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+import org.snakeyaml.engine.v2.comments.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Watches the files of registered roots and reloads them when they change. Bursts of file events are debounced,
+ * files are parsed on the watcher thread and only the {@link ConfigDiff} is applied to the existing tree,
+ * on the apply executor, so references to unchanged sections stay valid. The apply executor must run on the thread
+ * that reads and modifies the roots, such as the main thread of the application. Files whose contents match the last
+ * save of a root are not reloaded into it, and frozen roots cannot be watched.
+ */
+public class ConfigWatcher implements Closeable {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 250;
+
+    private final WatchService watchService;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Executor applyExecutor;
+    private final Consumer<ConfigLoadException> errorCollector;
+    private final long debounceNanos;
+
+    private final Map<Path, List<ConfigRoot>> rootsByFile = new ConcurrentHashMap<>();
+    private final Map<Path, WatchKey> keysByDirectory = new HashMap<>();
+    private final Map<Path, ScheduledFuture<?>> pendingReloads = new ConcurrentHashMap<>();
+    private final List<ConfigReloadListener> listeners = new CopyOnWriteArrayList<>();
+
+    public ConfigWatcher(@NotNull Executor applyExecutor, @NotNull Consumer<ConfigLoadException> errorCollector) throws IOException {
+        this(DEFAULT_DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS, applyExecutor, errorCollector);
+    }
+
+    public ConfigWatcher(long debounce, @NotNull TimeUnit unit, @NotNull Executor applyExecutor,
+                         @NotNull Consumer<ConfigLoadException> errorCollector) throws IOException {
+        Preconditions.checkArgument(debounce >= 0, "Debounce cannot be negative");
+        Preconditions.checkNotNull(applyExecutor, "Apply executor cannot be null");
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.applyExecutor = applyExecutor;
+        this.errorCollector = errorCollector;
+        this.debounceNanos = unit.toNanos(debounce);
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "YamlConfig Reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+
+        Thread watchThread = new Thread(this::watch, "YamlConfig Watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+    }
+
+    public void register(@NotNull ConfigRoot root) throws IOException {
+        File file = root.getFile();
+        Preconditions.checkArgument(file != null, "Cannot watch configuration because file is null");
+        Preconditions.checkArgument(!root.isFrozen(), "Cannot watch configuration because it is frozen");
+
+        Path path = file.toPath().toAbsolutePath().normalize();
+        Path directory = path.getParent();
+        synchronized (keysByDirectory) {
+            if (!keysByDirectory.containsKey(directory)) {
+                WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+                keysByDirectory.put(directory, key);
+            }
+            rootsByFile.computeIfAbsent(path, p -> new CopyOnWriteArrayList<>()).add(root);
+        }
+    }
+
+    public void unregister(@NotNull ConfigRoot root) {
+        File file = root.getFile();
+        if (file == null) {
+            return;
+        }
+
+        Path path = file.toPath().toAbsolutePath().normalize();
+        Path directory = path.getParent();
+        synchronized (keysByDirectory) {
+            List<ConfigRoot> roots = rootsByFile.get(path);
+            if (roots == null || !roots.remove(root) || !roots.isEmpty()) {
+                return;
+            }
+            rootsByFile.remove(path);
+            for (Path watchedFile : rootsByFile.keySet()) {
+                if (watchedFile.getParent().equals(directory)) {
+                    return;
+                }
+            }
+            WatchKey key = keysByDirectory.remove(directory);
+            if (key != null) {
+                key.cancel();
+            }
+        }
+    }
+
+    public void addListener(@NotNull ConfigReloadListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(@NotNull ConfigReloadListener listener) {
+        listeners.remove(listener);
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdownNow();
+        watchService.close();
+    }
+
+    private void watch() {
+        while (true) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path directory = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    for (Path file : rootsByFile.keySet()) {
+                        if (file.getParent().equals(directory)) {
+                            scheduleReload(file);
+                        }
+                    }
+                    continue;
+                }
+
+                Path file = directory.resolve((Path) event.context());
+                if (rootsByFile.containsKey(file)) {
+                    scheduleReload(file);
+                }
+            }
+            key.reset();
+        }
+    }
+
+    // Every event restarts the delay, so a burst of writes from an editor causes a single reload
+    private void scheduleReload(Path file) {
+        pendingReloads.compute(file, (path, pendingReload) -> {
+            if (pendingReload != null) {
+                pendingReload.cancel(false);
+            }
+            try {
+                return scheduler.schedule(() -> reload(path), debounceNanos, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                return null;
+            }
+        });
+    }
+
+    private void reload(Path file) {
+        pendingReloads.remove(file);
+        List<ConfigRoot> roots = rootsByFile.get(file);
+        if (roots == null || !Files.isRegularFile(file)) {
+            return;
+        }
+
+        for (ConfigRoot root : roots) {
+            ConfigSave saveState = root.getSaveState();
+            long savedHash = saveState.getSavedHash();
+            ConfigRoot loaded;
+            try {
+                loaded = YamlConfig.loadConfig(file.toFile(), root.getConfigurator(), root.getPrefix(), root.getLoadProfile(),
+                        root.getCodePointLimit());
+            } catch (ConfigLoadException e) {
+                applyExecutor.execute(() -> errorCollector.accept(e));
+                continue;
+            }
+
+            // Skips the events of saves made by this process, the tree may have changed since the save. The file is
+            // hashed while it is parsed, so the hash is always the one of the loaded contents
+            if (saveState.isSaved(file.toFile(), loaded.getSaveState().getSavedHash())) {
+                continue;
+            }
+            applyExecutor.execute(() -> apply(root, loaded, savedHash));
+        }
+    }
+
+    private void apply(ConfigRoot root, ConfigRoot loaded, long savedHash) {
+        // A save that finished after the file was read is newer than the loaded contents, its own event follows
+        if (root.getSaveState().getSavedHash() != savedHash) {
+            return;
+        }
+
+        Set<String> changedPaths;
+        if (root instanceof ConfigSection section && loaded instanceof ConfigSection loadedSection) {
+            ConfigDiff diff = ConfigDiff.compute(section, loadedSection);
+            diff.apply(section);
+            changedPaths = diff.getChangedPaths();
+        }
+        else if (root instanceof ConfigSequence sequence && loaded instanceof ConfigSequence loadedSequence) {
+            ConfigDiff diff = ConfigDiff.compute(sequence, loadedSequence);
+            diff.apply(sequence);
+            changedPaths = diff.getChangedPaths();
+        }
+        else if (root instanceof ConfigScalar scalar && loaded instanceof ConfigScalar loadedScalar) {
+            changedPaths = scalar.getValue().equals(loadedScalar.getValue()) ? Set.of() : Set.of("");
+            scalar.setValue(loadedScalar.getValue());
+        }
+        else {
+            errorCollector.accept(new ConfigLoadException(root, "Reloaded file does not match the configuration type"));
+            return;
+        }
+        copyComments(loaded, root);
+        // The file now matches the tree, so the next save does not rewrite it
+        root.getSaveState().copySavedState(loaded.getSaveState());
+
+        if (changedPaths.isEmpty()) {
+            return;
+        }
+        Set<String> paths = Collections.unmodifiableSet(changedPaths);
+        for (ConfigReloadListener listener : listeners) {
+            listener.onReload(root, paths);
+        }
+    }
+
+    // After the diff is applied both trees have the same shape, so comments can be copied field by field. Comments are
+    // only set where they differ, since setting them on an unchanged field is still a write to the tree
+    private static void copyComments(@Nullable ConfigField source, ConfigField target) {
+        List<CommentLine> blockComments = source != null ? source.getBlockComments() : List.of();
+        if (!isSameComments(blockComments, target.getBlockComments())) {
+            target.setBlockComments(blockComments);
+        }
+        List<CommentLine> inLineComments = source != null ? source.getInLineComments() : List.of();
+        if (!isSameComments(inLineComments, target.getInLineComments())) {
+            target.setInLineComments(inLineComments);
+        }
+
+        if (source instanceof Section sourceSection && target instanceof Section targetSection) {
+            for (KeyedField field : sourceSection) {
+                KeyedField targetField = targetSection.getNode(field.getKey());
+                if (targetField != null) {
+                    copyComments(field.getKeyScalar(), targetField.getKeyScalar());
+                    copyComments(field, targetField);
+                }
+            }
+        }
+        else if (source instanceof Sequence sourceSequence && target instanceof Sequence targetSequence) {
+            // Packed elements are plain numbers without comments, reading them as fields would unpack the sequence
+            boolean sourcePacked = sourceSequence.getPackedValue(0) != null;
+            boolean targetPacked = targetSequence.getPackedValue(0) != null;
+            for (int i = 0; i < sourceSequence.size() && i < targetSequence.size(); i++) {
+                ConfigField sourceField = sourcePacked ? null : sourceSequence.getNode(i);
+                if (targetPacked && (sourceField == null || !hasComments(sourceField))) {
+                    continue;
+                }
+                copyComments(sourceField, targetSequence.getNode(i));
+            }
+        }
+    }
+
+    private static boolean hasComments(ConfigField field) {
+        return !field.getBlockComments().isEmpty() || !field.getInLineComments().isEmpty();
+    }
+
+    // Comment lines do not implement equals, and their marks differ between loads of the same file
+    private static boolean isSameComments(List<CommentLine> comments, List<CommentLine> otherComments) {
+        if (comments.size() != otherComments.size()) {
+            return false;
+        }
+        for (int i = 0; i < comments.size(); i++) {
+            CommentLine comment = comments.get(i);
+            CommentLine otherComment = otherComments.get(i);
+            if (comment.getCommentType() != otherComment.getCommentType()
+                    || !comment.getValue().equals(otherComment.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
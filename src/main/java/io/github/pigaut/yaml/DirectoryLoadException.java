@@ -0,0 +1,32 @@
+package io.github.pigaut.yaml;
+
+import org.jetbrains.annotations.*;
+
+import java.io.*;
+import java.util.*;
+
+public class DirectoryLoadException extends ConfigLoadException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<ConfigLoadException> errors;
+
+    public DirectoryLoadException(@NotNull File directory, @NotNull List<ConfigLoadException> errors) {
+        super(null, directory, errors.size() + " file(s) could not be loaded");
+        this.errors = List.copyOf(errors);
+    }
+
+    public @NotNull List<ConfigLoadException> getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner("\n");
+        for (ConfigLoadException error : errors) {
+            joiner.add(error.toString());
+        }
+        return joiner.toString();
+    }
+
+}
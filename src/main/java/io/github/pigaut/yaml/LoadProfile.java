@@ -0,0 +1,15 @@
+package io.github.pigaut.yaml;
+
+/**
+ * How much of a file is kept when it is loaded.
+ */
+public enum LoadProfile {
+
+    DEFAULT,        // comments are parsed and written back on save
+    READ_ONLY_FAST; // comments are skipped by the scanner, the configuration cannot be saved
+
+    public boolean isParseComments() {
+        return this == DEFAULT;
+    }
+
+}
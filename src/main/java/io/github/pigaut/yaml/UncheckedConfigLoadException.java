@@ -0,0 +1,18 @@
+package io.github.pigaut.yaml;
+
+import org.jetbrains.annotations.*;
+
+public class UncheckedConfigLoadException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public UncheckedConfigLoadException(@NotNull ConfigLoadException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    @Override
+    public @NotNull ConfigLoadException getCause() {
+        return (ConfigLoadException) super.getCause();
+    }
+
+}
@@ -5,6 +5,7 @@ import io.github.pigaut.yaml.node.*;
 import io.github.pigaut.yaml.node.scalar.*;
 import io.github.pigaut.yaml.node.section.*;
 import io.github.pigaut.yaml.node.sequence.*;
+import io.github.pigaut.yaml.util.*;
 import org.jetbrains.annotations.*;
 import org.snakeyaml.engine.v2.api.*;
 import org.snakeyaml.engine.v2.exceptions.*;
@@ -13,12 +14,16 @@ import org.snakeyaml.engine.v2.nodes.*;
 import java.io.*;
 import java.math.*;
 import java.nio.charset.*;
+import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 import java.util.stream.*;
 
 public class YamlConfig {
 
     private static final ConfigLoad loader = new ConfigLoad();
+    private static final ConfigLoad fastLoader = new ConfigLoad(LoadProfile.READ_ONLY_FAST);
 
     private YamlConfig() {}
 
@@ -34,53 +39,287 @@ public class YamlConfig {
 
     @NotNull
     public static ConfigRoot loadConfig(@NotNull File file, @NotNull Configurator configurator, String prefix) throws ConfigLoadException {
-        List<Node> documents = new ArrayList<>();
+        return loadConfig(file, configurator, prefix, LoadProfile.DEFAULT);
+    }
+
+    // A root loaded with a profile that does not parse comments cannot be saved, see ConfigRoot#setLoadProfile
+    @NotNull
+    public static ConfigRoot loadConfig(@NotNull File file, @NotNull Configurator configurator, String prefix,
+                                        @NotNull LoadProfile profile) throws ConfigLoadException {
+        return loadConfig(file, configurator, prefix, profile, ConfigLoad.DEFAULT_CODE_POINT_LIMIT);
+    }
+
+    // The code point limit is kept by the returned root for its next loads, see ConfigRoot#setCodePointLimit
+    @NotNull
+    public static ConfigRoot loadConfig(@NotNull File file, @NotNull Configurator configurator, String prefix,
+                                        @NotNull LoadProfile profile, int codePointLimit) throws ConfigLoadException {
         try (FileInputStream fileInputStream = new FileInputStream(file);
              InputStreamReader inputStreamReader = new InputStreamReader(fileInputStream, StandardCharsets.UTF_8);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
 
-            for (Node document : loader.loadAllFromReader(reader)) {
-                documents.add(document);
+            HashingReader hashingReader = new HashingReader(reader);
+            ConfigTreeBuilder builder = getLoader(profile, codePointLimit).createTreeBuilder(hashingReader);
+            if (!builder.hasNextDocument()) {
+                throw new ConfigLoadException(prefix, file, "Could not determine config type");
+            }
+
+            boolean emptyDocument = builder.isEmptyScalarDocument();
+            Field root = createRoot(builder.peekDocumentType(), file, configurator, prefix);
+            ((ConfigRoot) root).setLoadProfile(profile);
+            ((ConfigRoot) root).setCodePointLimit(codePointLimit);
+            builder.buildDocument(root);
+            if (!builder.hasNextDocument()) {
+                ((ConfigRoot) root).getSaveState().setSavedState(file, hashingReader.getHash());
+                return (ConfigRoot) root;
+            }
+
+            RootSequence sequence = new RootSequence(file, configurator, prefix);
+            sequence.setLoadProfile(profile);
+            sequence.setCodePointLimit(codePointLimit);
+            if (!emptyDocument) {
+                ConfigTreeBuilder.copy(root, addDocument(sequence, root));
+            }
+            while (builder.hasNextDocument()) {
+                if (builder.isEmptyScalarDocument()) {
+                    builder.buildDocument(new RootScalar(file, configurator, prefix));
+                    continue;
+                }
+                builder.buildDocument(sequence);
             }
+            sequence.getSaveState().setSavedState(file, hashingReader.getHash());
+            return sequence;
         } catch (IOException | YamlEngineException e) {
             throw new ConfigLoadException(prefix, file, e.getMessage());
         }
+    }
 
-        if (documents.isEmpty()) {
-            throw new ConfigLoadException(prefix, file, "Could not determine config type");
+    @NotNull
+    public static Stream<ConfigRoot> streamDocuments(@NotNull File file) throws ConfigLoadException {
+        return streamDocuments(file, new StandardConfigurator(), null);
+    }
+
+    @NotNull
+    public static Stream<ConfigRoot> streamDocuments(@NotNull File file, @NotNull Configurator configurator) throws ConfigLoadException {
+        return streamDocuments(file, configurator, null);
+    }
+
+    @NotNull
+    public static Stream<ConfigRoot> streamDocuments(@NotNull File file, @NotNull Configurator configurator, String prefix) throws ConfigLoadException {
+        Reader reader;
+        try {
+            reader = new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new ConfigLoadException(prefix, file, e.getMessage());
         }
+        return streamDocuments(reader, file, configurator, prefix);
+    }
 
-        if (documents.size() > 1) {
-            RootSequence sequence = new RootSequence(file, configurator, prefix);
-            for (Node node : documents) {
-                if (node == null || (node instanceof ScalarNode scalar && scalar.getValue().isEmpty())) {
-                    continue;
+    @NotNull
+    public static Stream<ConfigRoot> streamDocuments(@NotNull Reader reader, @NotNull Configurator configurator) {
+        return streamDocuments(reader, null, configurator, null);
+    }
+
+    // Documents are built one at a time, the stream must be closed to release the reader.
+    // The roots have no file, so they can only be saved to a file given explicitly
+    private static Stream<ConfigRoot> streamDocuments(Reader reader, @Nullable File file, Configurator configurator, String prefix) {
+        Iterator<ConfigRoot> documents = new DocumentIterator(loader.createTreeBuilder(reader), file, configurator, prefix);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(documents, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(() -> {
+                    try {
+                        reader.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private static ConfigLoad getLoader(LoadProfile profile, int codePointLimit) {
+        if (codePointLimit != ConfigLoad.DEFAULT_CODE_POINT_LIMIT) {
+            return new ConfigLoad(profile, codePointLimit);
+        }
+        return profile == LoadProfile.READ_ONLY_FAST ? fastLoader : loader;
+    }
+
+    private static Field createRoot(FieldType type, @Nullable File file, @NotNull Configurator configurator, String prefix) {
+        return switch (type) {
+            case SECTION -> new RootSection(file, configurator, prefix);
+            case SEQUENCE -> new RootSequence(file, configurator, prefix);
+            case SCALAR -> new RootScalar(file, configurator, prefix);
+        };
+    }
+
+    private static Field addDocument(RootSequence sequence, Field document) {
+        if (document instanceof Section) {
+            return (Field) sequence.addEmptySection();
+        }
+        if (document instanceof Sequence) {
+            return (Field) sequence.addEmptySequence();
+        }
+        return (Field) sequence.addEmptyScalar();
+    }
+
+    // The roots are built without a file, saving one of them to the file would replace every other document.
+    // The file only names the source of load errors
+    private static class DocumentIterator implements Iterator<ConfigRoot> {
+
+        private final ConfigTreeBuilder builder;
+        private final @Nullable File file;
+        private final Configurator configurator;
+        private final String prefix;
+        private @Nullable ConfigRoot next;
+
+        private DocumentIterator(ConfigTreeBuilder builder, @Nullable File file, Configurator configurator, String prefix) {
+            this.builder = builder;
+            this.file = file;
+            this.configurator = configurator;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null && builder.hasNextDocument()) {
+                    if (builder.isEmptyScalarDocument()) {
+                        builder.buildDocument(new RootScalar(null, configurator, prefix));
+                        continue;
+                    }
+                    Field root = createRoot(builder.peekDocumentType(), null, configurator, prefix);
+                    builder.buildDocument(root);
+                    next = (ConfigRoot) root;
                 }
-                sequence.add(node);
+            } catch (YamlEngineException e) {
+                throw new UncheckedConfigLoadException(new ConfigLoadException(prefix, file, e.getMessage()));
             }
-            return sequence;
+            return next != null;
         }
 
-        Node node = documents.get(0);
-        if (node instanceof MappingNode) {
-            RootSection section = new RootSection(file, configurator, prefix);
-            section.map(node);
-            return section;
+        @Override
+        public ConfigRoot next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more documents in the stream.");
+            }
+            ConfigRoot root = next;
+            next = null;
+            return root;
         }
 
-        if (node instanceof SequenceNode) {
-            RootSequence sequence = new RootSequence(file, configurator, prefix);
-            sequence.map(node);
-            return sequence;
+    }
+
+    @NotNull
+    public static List<ConfigRoot> loadDirectory(@NotNull File directory) throws ConfigLoadException {
+        return loadDirectory(directory, new StandardConfigurator());
+    }
+
+    @NotNull
+    public static List<ConfigRoot> loadDirectory(@NotNull File directory, @NotNull Configurator configurator) throws ConfigLoadException {
+        return loadDirectory(directory, configurator, ConfigExecutors.workStealingExecutor());
+    }
+
+    @NotNull
+    public static List<ConfigRoot> loadDirectory(@NotNull File directory, @NotNull Configurator configurator,
+                                                 @NotNull Executor executor) throws ConfigLoadException {
+        return loadAllOrThrow(directory, false, configurator, executor);
+    }
+
+    @NotNull
+    public static List<ConfigRoot> loadDirectory(@NotNull File directory, @NotNull Configurator configurator,
+                                                 @NotNull Executor executor, @NotNull Consumer<ConfigLoadException> errorCollector) {
+        return loadAll(directory, false, configurator, executor, errorCollector);
+    }
+
+    @NotNull
+    public static List<ConfigRoot> loadDirectoryRecursively(@NotNull File directory) throws ConfigLoadException {
+        return loadDirectoryRecursively(directory, new StandardConfigurator());
+    }
+
+    @NotNull
+    public static List<ConfigRoot> loadDirectoryRecursively(@NotNull File directory, @NotNull Configurator configurator) throws ConfigLoadException {
+        return loadDirectoryRecursively(directory, configurator, ConfigExecutors.workStealingExecutor());
+    }
+
+    @NotNull
+    public static List<ConfigRoot> loadDirectoryRecursively(@NotNull File directory, @NotNull Configurator configurator,
+                                                            @NotNull Executor executor) throws ConfigLoadException {
+        return loadAllOrThrow(directory, true, configurator, executor);
+    }
+
+    @NotNull
+    public static List<ConfigRoot> loadDirectoryRecursively(@NotNull File directory, @NotNull Configurator configurator,
+                                                            @NotNull Executor executor, @NotNull Consumer<ConfigLoadException> errorCollector) {
+        return loadAll(directory, true, configurator, executor, errorCollector);
+    }
+
+    private static List<ConfigRoot> loadAllOrThrow(File directory, boolean recursive,
+                                                   Configurator configurator, Executor executor) throws ConfigLoadException {
+        List<ConfigLoadException> errors = new ArrayList<>();
+        List<ConfigRoot> roots = loadAll(directory, recursive, configurator, executor, errors::add);
+        if (!errors.isEmpty()) {
+            throw new DirectoryLoadException(directory, errors);
         }
+        return roots;
+    }
 
-        if (node instanceof ScalarNode) {
-            RootScalar scalar = new RootScalar(file, configurator, prefix);
-            scalar.map(node);
-            return scalar;
+    private static List<ConfigRoot> loadAll(File directory, boolean recursive, Configurator configurator,
+                                            Executor executor, Consumer<ConfigLoadException> errorCollector) {
+        List<File> files;
+        try {
+            files = listYamlFiles(directory, recursive);
+        } catch (ConfigLoadException e) {
+            errorCollector.accept(e);
+            return new ArrayList<>();
         }
 
-        throw new ConfigLoadException(prefix, file, "Could not determine config type");
+        List<CompletableFuture<ConfigRoot>> futures = new ArrayList<>(files.size());
+        for (File file : files) {
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    return loadConfig(file, configurator, null);
+                } catch (ConfigLoadException e) {
+                    throw new CompletionException(e);
+                }
+            }, executor));
+        }
+
+        List<ConfigRoot> roots = new ArrayList<>(files.size());
+        for (CompletableFuture<ConfigRoot> future : futures) {
+            try {
+                roots.add(future.join());
+            } catch (CompletionException e) {
+                if (!(e.getCause() instanceof ConfigLoadException loadException)) {
+                    throw e;
+                }
+                errorCollector.accept(loadException);
+            }
+        }
+        return roots;
+    }
+
+    private static List<File> listYamlFiles(File directory, boolean recursive) throws ConfigLoadException {
+        if (!directory.isDirectory()) {
+            throw new ConfigLoadException(null, directory, "Directory does not exist");
+        }
+
+        List<File> files = new ArrayList<>();
+        if (recursive) {
+            try (Stream<Path> paths = Files.walk(directory.toPath())) {
+                paths.filter(Files::isRegularFile)
+                        .map(Path::toFile)
+                        .filter(YamlConfig::isYamlFile)
+                        .forEach(files::add);
+            } catch (IOException | UncheckedIOException e) {
+                throw new ConfigLoadException(null, directory, e.getMessage());
+            }
+        }
+        else {
+            File[] children = directory.listFiles(file -> file.isFile() && isYamlFile(file));
+            if (children == null) {
+                throw new ConfigLoadException(null, directory, "Could not list directory files");
+            }
+            files.addAll(Arrays.asList(children));
+        }
+
+        files.sort(Comparator.comparing(File::getPath));
+        return files;
     }
 
     @NotNull
@@ -105,7 +344,15 @@ public class YamlConfig {
 
     @NotNull
     public static RootSection loadSection(@NotNull File file, @NotNull Configurator configurator, String prefix) throws ConfigLoadException {
+        return loadSection(file, configurator, prefix, LoadProfile.DEFAULT);
+    }
+
+    // A root loaded with a profile that does not parse comments cannot be saved, see ConfigRoot#setLoadProfile
+    @NotNull
+    public static RootSection loadSection(@NotNull File file, @NotNull Configurator configurator, String prefix,
+                                          @NotNull LoadProfile profile) throws ConfigLoadException {
         RootSection section = createEmptySection(file, configurator, prefix);
+        section.setLoadProfile(profile);
         section.load();
         return section;
     }
@@ -290,6 +537,18 @@ public class YamlConfig {
                 .collect(Collectors.joining("\n"));
     }
 
+    // The executor must run on the thread that modifies the roots, saves requested with ConfigRoot#saveAsync()
+    // serialize their contents on it once their delay has passed instead of on every call
+    public static void setSaveOwnerExecutor(@Nullable Executor ownerExecutor) {
+        ConfigSaveScheduler.getDefault().setOwnerExecutor(ownerExecutor);
+    }
+
+    // Call before shutting down so that saves requested with ConfigRoot#saveAsync are written,
+    // from the thread that modifies the roots since the pending saves are serialized on it
+    public static void flushAll() {
+        ConfigSaveScheduler.getDefault().flushAll();
+    }
+
     public static boolean createFileIfNotExists(@NotNull File file) {
         if (file.exists()) {
             return file.isFile();
@@ -15,6 +15,11 @@ public class AmountLoader implements ConfigLoader<Amount> {
         return "invalid amount";
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public @NotNull Amount loadFromScalar(ConfigScalar scalar) throws InvalidConfigException {
         try {
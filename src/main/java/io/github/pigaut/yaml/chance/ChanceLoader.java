@@ -12,6 +12,11 @@ public class ChanceLoader implements ConfigLoader<Chance> {
         return "invalid chance";
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public @NotNull Chance loadFromScalar(ConfigScalar scalar) throws InvalidConfigException {
         try {
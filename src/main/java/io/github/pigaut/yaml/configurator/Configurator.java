@@ -5,29 +5,58 @@ import io.github.pigaut.yaml.configurator.convert.deserialize.*;
 import io.github.pigaut.yaml.configurator.convert.serialize.*;
 import io.github.pigaut.yaml.configurator.load.*;
 import io.github.pigaut.yaml.configurator.map.*;
+import io.github.pigaut.yaml.configurator.record.*;
+import io.github.pigaut.yaml.node.line.*;
+import io.github.pigaut.yaml.util.*;
 import org.jetbrains.annotations.*;
 
+import java.lang.ref.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 public abstract class Configurator {
 
-    private final Map<Class<?>, ConfigLoader<?>> loadersByType = new HashMap<>();
-    private final Map<Class<?>, ConfigMapper<?>> mappersByType = new HashMap<>();
+    private final Map<Class<?>, ConfigLoader<?>> loadersByType = new ConcurrentHashMap<>();
+    private final Map<Class<?>, ConfigMapper<?>> mappersByType = new ConcurrentHashMap<>();
 
-    public <T> void addLoader(Class<T> classType, ConfigLoader<T> loader) {
+    // Resolved lookups by requested type, including misses. They are kept on the requested class by a ClassValue,
+    // so the cache does not keep classes of unloaded class loaders alive. Each lookup records the generation it was
+    // resolved in, which is increased whenever a loader or mapper is added, so older lookups are resolved again.
+    private volatile int loaderGeneration = 0;
+    private volatile int mapperGeneration = 0;
+    private final ClassValue<Resolved> resolvedLoaders = new ClassValue<>() {
+        @Override
+        protected Resolved computeValue(Class<?> type) {
+            int generation = loaderGeneration;
+            return new Resolved(generation, resolveLoader(type), loadersByType);
+        }
+    };
+    private final ClassValue<Resolved> resolvedMappers = new ClassValue<>() {
+        @Override
+        protected Resolved computeValue(Class<?> type) {
+            int generation = mapperGeneration;
+            return new Resolved(generation, resolveMapper(type), mappersByType);
+        }
+    };
+
+    private volatile @Nullable LineCache lineCache = null;
+
+    public synchronized <T> void addLoader(Class<T> classType, ConfigLoader<T> loader) {
         loadersByType.put(classType, loader);
+        loaderGeneration++;
     }
 
-    public <T> void addMapper(Class<T> classType, ConfigMapper<T> mapper) {
+    public synchronized <T> void addMapper(Class<T> classType, ConfigMapper<T> mapper) {
         mappersByType.put(classType, mapper);
+        mapperGeneration++;
     }
 
     public <T> void addDeserializer(Class<T> classType, Deserializer<T> deserializer) {
-        loadersByType.put(classType, deserializer);
+        addLoader(classType, deserializer);
     }
 
     public <T> void addSerializer(Class<T> classType, Serializer<T> serializer) {
-        mappersByType.put(classType, serializer);
+        addMapper(classType, serializer);
     }
 
     public <T> void addConverter(Class<T> classType, Converter<T> converter) {
@@ -35,9 +64,60 @@ public abstract class Configurator {
         addSerializer(classType, converter);
     }
 
+    /**
+     * Shares the tokens of identical lines read from fields of this configurator, keeping up to the given number
+     * of distinct lines, see {@link LineCache}. A size of 0 disables the cache, which is the default.
+     */
+    public void setLineCacheSize(int maxSize) {
+        Preconditions.checkArgument(maxSize >= 0, "Cache size cannot be negative");
+        lineCache = maxSize > 0 ? new LineCache(maxSize) : null;
+    }
+
+    public @Nullable LineCache getLineCache() {
+        return lineCache;
+    }
+
+    /**
+     * Registers a loader and a mapper for a record type that bind its components to the keys of a section,
+     * see {@link ConfigKey} and {@link ConfigDefault}.
+     */
+    public <R extends Record> void registerRecord(@NotNull Class<R> recordType) {
+        registerBindable(recordType);
+    }
+
+    /**
+     * Registers a loader and a mapper for a record or class that bind its properties to the keys of a section,
+     * see {@link ConfigKey} and {@link ConfigDefault}. The properties of a class are its non-static, non-transient
+     * fields, which must be non-private and non-final or have a getter and a setter, and the class needs
+     * a non-private constructor without parameters.
+     */
+    public <T> void registerBindable(@NotNull Class<T> type) {
+        addLoader(type, new BindingLoader<>(this, type));
+        addMapper(type, new BindingMapper<>(type));
+    }
+
+    @SuppressWarnings("unchecked")
     public <T> @Nullable ConfigLoader<T> getLoader(@NotNull Class<T> classType) {
-        @SuppressWarnings("unchecked")
-        final ConfigLoader<T> loader = (ConfigLoader<T>) loadersByType.get(classType);
+        return (ConfigLoader<T>) getResolved(resolvedLoaders, classType, loaderGeneration);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> ConfigMapper<? super T> getMapper(Class<T> classType) {
+        return (ConfigMapper<? super T>) getResolved(resolvedMappers, classType, mapperGeneration);
+    }
+
+    private static @Nullable Object getResolved(ClassValue<Resolved> cache, Class<?> classType, int generation) {
+        Resolved resolved = cache.get(classType);
+        if (resolved.generation == generation && resolved.isPresent()) {
+            return resolved.get();
+        }
+        cache.remove(classType);
+        return cache.get(classType).get();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private @Nullable ConfigLoader<?> resolveLoader(Class<?> classType) {
+        ConfigLoader<?> loader = loadersByType.get(classType);
         if (loader != null) {
             return loader;
         }
@@ -47,10 +127,10 @@ public abstract class Configurator {
         return null;
     }
 
-    public <T> ConfigMapper<? super T> getMapper(Class<T> classType) {
-        @SuppressWarnings("unchecked")
-        ConfigMapper<T> mapper = (ConfigMapper<T>) mappersByType.get(classType);
-
+    // Supertypes are searched breadth first, superclass before interfaces in declaration order, Object last,
+    // so the closest registered supertype wins regardless of registration order
+    private @Nullable ConfigMapper<?> resolveMapper(Class<?> classType) {
+        ConfigMapper<?> mapper = mappersByType.get(classType);
         if (mapper != null) {
             return mapper;
         }
@@ -59,14 +139,65 @@ public abstract class Configurator {
             return Serializers.defaultSerializer();
         }
 
-        for (Class<?> mapperType : mappersByType.keySet()) {
-            if (mapperType.isAssignableFrom(classType)) {
-                @SuppressWarnings("unchecked")
-                final ConfigMapper<? super T> parentMapper = (ConfigMapper<? super T>) mappersByType.get(mapperType);
-                return parentMapper;
+        Set<Class<?>> visited = new HashSet<>();
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        queue.add(classType);
+        while (!queue.isEmpty()) {
+            Class<?> type = queue.poll();
+            Class<?> superclass = type.getSuperclass();
+            if (superclass != null && superclass != Object.class && visited.add(superclass)) {
+                mapper = mappersByType.get(superclass);
+                if (mapper != null) {
+                    return mapper;
+                }
+                queue.add(superclass);
+            }
+            for (Class<?> superInterface : type.getInterfaces()) {
+                if (visited.add(superInterface)) {
+                    mapper = mappersByType.get(superInterface);
+                    if (mapper != null) {
+                        return mapper;
+                    }
+                    queue.add(superInterface);
+                }
             }
         }
-        return null;
+
+        return classType.isPrimitive() ? null : mappersByType.get(Object.class);
+    }
+
+    /**
+     * A loader or mapper resolved for a class, or a miss. The cache keeps it on the class, so registered loaders and
+     * mappers, which may reference this configurator, are only held weakly, or else the class would keep the
+     * configurator and its cache alive. The configurator holds them strongly until they are replaced. Those created
+     * while resolving, such as enum deserializers, only reference the class and are held strongly.
+     */
+    private static final class Resolved {
+
+        private final int generation;
+        private final @Nullable Object value;
+        private final @Nullable WeakReference<Object> registeredValue;
+
+        private Resolved(int generation, @Nullable Object value, Map<Class<?>, ?> registered) {
+            this.generation = generation;
+            if (value != null && registered.containsValue(value)) {
+                this.value = null;
+                this.registeredValue = new WeakReference<>(value);
+            } else {
+                this.value = value;
+                this.registeredValue = null;
+            }
+        }
+
+        // A registered value is only collected once it has been replaced, the lookup is then resolved again
+        private boolean isPresent() {
+            return registeredValue == null || registeredValue.get() != null;
+        }
+
+        private @Nullable Object get() {
+            return registeredValue != null ? registeredValue.get() : value;
+        }
+
     }
 
 }
@@ -19,6 +19,24 @@ public interface Deserializer<T> extends ConfigLoader.Scalar<T> {
         }
     }
 
+    /**
+     * Returns a deserializer that scalars can memoize, see {@link ConfigLoader#isCacheable()}. The given deserializer
+     * must return immutable values.
+     */
+    static <T> Deserializer<T> cacheable(@NotNull Deserializer<T> deserializer) {
+        return new Deserializer<>() {
+            @Override
+            public T deserialize(String string) throws StringParseException {
+                return deserializer.deserialize(string);
+            }
+
+            @Override
+            public boolean isCacheable() {
+                return true;
+            }
+        };
+    }
+
     default @NotNull T loadFromKey(ConfigSection section, String key) throws InvalidConfigException {
         try {
             return deserialize(key);
@@ -13,29 +13,29 @@ import java.util.*;
 
 public class Deserializers {
 
-    public static final Deserializer<Boolean> BOOLEAN = ParseUtil::parseBoolean;
-    public static final Deserializer<Character> CHARACTER = ParseUtil::parseCharacter;
-    public static final Deserializer<String> STRING = string -> string;
-    public static final Deserializer<Byte> BYTE = ParseUtil::parseByte;
-    public static final Deserializer<Short> SHORT = ParseUtil::parseShort;
-    public static final Deserializer<Integer> INTEGER = ParseUtil::parseInteger;
-    public static final Deserializer<Long> LONG = ParseUtil::parseLong;
-    public static final Deserializer<Float> FLOAT = ParseUtil::parseFloat;
-    public static final Deserializer<Double> DOUBLE = ParseUtil::parseDouble;
-    public static final Deserializer<Amount> AMOUNT = ParseUtil::parseAmount;
-    public static final Deserializer<Delay> TIME = ParseUtil::parseDelay;
-    public static final Deserializer<LocalDate> LOCAL_DATE = ParseUtil::parseLocalDate;
-    public static final Deserializer<LocalTime> LOCAL_TIME = ParseUtil::parseLocalTime;
-    public static final Deserializer<LocalDateTime> LOCAL_DATE_TIME = ParseUtil::parseLocalDateTime;
-    public static final Deserializer<BigInteger> BIG_INTEGER = ParseUtil::parseBigInteger;
-    public static final Deserializer<BigDecimal> BIG_DECIMAL = ParseUtil::parseBigDecimal;
-    public static final Deserializer<File> FILE = ParseUtil::parseFile;
-    public static final Deserializer<Locale> LOCALE = ParseUtil::parseLocale;
-    public static final Deserializer<UUID> UUID = ParseUtil::parseUUID;
-    public static final Deserializer<java.net.URL> URL = ParseUtil::parseURL;
+    public static final Deserializer<Boolean> BOOLEAN = Deserializer.cacheable(ParseUtil::parseBoolean);
+    public static final Deserializer<Character> CHARACTER = Deserializer.cacheable(ParseUtil::parseCharacter);
+    public static final Deserializer<String> STRING = Deserializer.cacheable(string -> string);
+    public static final Deserializer<Byte> BYTE = Deserializer.cacheable(ParseUtil::parseByte);
+    public static final Deserializer<Short> SHORT = Deserializer.cacheable(ParseUtil::parseShort);
+    public static final Deserializer<Integer> INTEGER = Deserializer.cacheable(ParseUtil::parseInteger);
+    public static final Deserializer<Long> LONG = Deserializer.cacheable(ParseUtil::parseLong);
+    public static final Deserializer<Float> FLOAT = Deserializer.cacheable(ParseUtil::parseFloat);
+    public static final Deserializer<Double> DOUBLE = Deserializer.cacheable(ParseUtil::parseDouble);
+    public static final Deserializer<Amount> AMOUNT = Deserializer.cacheable(ParseUtil::parseAmount);
+    public static final Deserializer<Delay> TIME = Deserializer.cacheable(ParseUtil::parseDelay);
+    public static final Deserializer<LocalDate> LOCAL_DATE = Deserializer.cacheable(ParseUtil::parseLocalDate);
+    public static final Deserializer<LocalTime> LOCAL_TIME = Deserializer.cacheable(ParseUtil::parseLocalTime);
+    public static final Deserializer<LocalDateTime> LOCAL_DATE_TIME = Deserializer.cacheable(ParseUtil::parseLocalDateTime);
+    public static final Deserializer<BigInteger> BIG_INTEGER = Deserializer.cacheable(ParseUtil::parseBigInteger);
+    public static final Deserializer<BigDecimal> BIG_DECIMAL = Deserializer.cacheable(ParseUtil::parseBigDecimal);
+    public static final Deserializer<File> FILE = Deserializer.cacheable(ParseUtil::parseFile);
+    public static final Deserializer<Locale> LOCALE = Deserializer.cacheable(ParseUtil::parseLocale);
+    public static final Deserializer<UUID> UUID = Deserializer.cacheable(ParseUtil::parseUUID);
+    public static final Deserializer<java.net.URL> URL = Deserializer.cacheable(ParseUtil::parseURL);
 
     public static <E extends Enum<E>> Deserializer<E> enumDeserializer(Class<E> classType) {
-        return string -> {
+        return Deserializer.cacheable(string -> {
             try {
                 return Enum.valueOf(classType, CaseFormatter.toConstantCase(string));
             }
@@ -43,7 +43,7 @@ public class Deserializers {
                 final String typeName = CaseFormatter.toTitleCase(CaseFormatter.splitClassName(classType));
                 throw new StringParseException("Expected a(n) " + typeName + " but found: '" + string + "'");
             }
-        };
+        });
     }
 
     private static final Map<Class<?>, Deserializer<?>> DESERIALIZERS = new HashMap<>();
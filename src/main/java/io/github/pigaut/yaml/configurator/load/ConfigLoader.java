@@ -12,6 +12,14 @@ public interface ConfigLoader<T> {
         return null;
     }
 
+    /**
+     * Whether a value loaded from a scalar can be returned again while the scalar value is unchanged. Only loaders
+     * returning immutable values that depend on nothing but the scalar value should return true.
+     */
+    default boolean isCacheable() {
+        return false;
+    }
+
     default @NotNull T loadFromScalar(ConfigScalar scalar) throws InvalidConfigException {
         throw new InvalidConfigException(scalar, "Value is not supported here");
     }
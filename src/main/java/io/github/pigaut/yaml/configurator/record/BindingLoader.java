@@ -0,0 +1,111 @@
+package io.github.pigaut.yaml.configurator.record;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.configurator.*;
+import io.github.pigaut.yaml.configurator.load.*;
+import io.github.pigaut.yaml.convert.parse.*;
+import io.github.pigaut.yaml.node.section.*;
+import io.github.pigaut.yaml.path.*;
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * Loads a record or class from a section, each property from the field at its key. Properties that are not set
+ * are loaded from their {@link ConfigDefault}, lists default to an empty list.
+ */
+public class BindingLoader<T> implements ConfigLoader.Section<T> {
+
+    private final TypeBinding<T> binding;
+    private final TypeBinding.Property[] properties;
+    private final PropertyReader[] readers;
+    private final RootSection defaults;
+
+    public BindingLoader(@NotNull Configurator configurator, @NotNull Class<T> type) {
+        this.binding = TypeBinding.of(type);
+        this.properties = binding.getProperties();
+        this.readers = new PropertyReader[properties.length];
+        this.defaults = new RootSection(configurator);
+        for (int i = 0; i < properties.length; i++) {
+            TypeBinding.Property property = properties[i];
+            readers[i] = createReader(property);
+            String defaultValue = property.getDefaultValue();
+            if (defaultValue != null) {
+                defaults.set(property.getPath(), ParseUtil.parseAsScalar(defaultValue));
+            }
+        }
+    }
+
+    @Override
+    public @NotNull T loadFromSection(@NotNull ConfigSection section) throws InvalidConfigException {
+        Object[] arguments = new Object[properties.length];
+        for (int i = 0; i < properties.length; i++) {
+            arguments[i] = loadProperty(section, i);
+        }
+
+        try {
+            return binding.newInstance(arguments);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            throw new InvalidConfigException(section, e.getMessage());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not create " + binding.getType().getSimpleName(), e);
+        }
+    }
+
+    private Object loadProperty(ConfigSection section, int index) throws InvalidConfigException {
+        TypeBinding.Property property = properties[index];
+        PropertyReader reader = readers[index];
+        AbstractOptional<?> value = reader.read(section, property.getPath());
+        if (value.isValid() || value.existsInConfig()) {
+            return value.orThrow();
+        }
+        if (property.getDefaultValue() != null) {
+            return reader.read(defaults, property.getPath()).orThrow();
+        }
+        if (property.getElementType() != null) {
+            return List.of();
+        }
+        return value.orThrow();
+    }
+
+    // Scalars are read with the typed getters, which use the parsed value instead of deserializing its string
+    private static PropertyReader createReader(TypeBinding.Property property) {
+        Class<?> elementType = property.getElementType();
+        if (elementType != null) {
+            return (section, path) -> section.getList(path, elementType);
+        }
+
+        Class<?> type = property.getType();
+        if (type == String.class) {
+            return ConfigSection::getString;
+        }
+        if (type == Integer.class) {
+            return ConfigSection::getInteger;
+        }
+        if (type == Long.class) {
+            return ConfigSection::getLong;
+        }
+        if (type == Double.class) {
+            return ConfigSection::getDouble;
+        }
+        if (type == Float.class) {
+            return ConfigSection::getFloat;
+        }
+        if (type == Boolean.class) {
+            return ConfigSection::getBoolean;
+        }
+        if (type == Character.class) {
+            return ConfigSection::getCharacter;
+        }
+        return (section, path) -> section.get(path, type);
+    }
+
+    @FunctionalInterface
+    private interface PropertyReader {
+        AbstractOptional<?> read(ConfigSection section, ConfigPath path);
+    }
+
+}
@@ -0,0 +1,33 @@
+package io.github.pigaut.yaml.configurator.record;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.configurator.map.*;
+import org.jetbrains.annotations.*;
+
+/**
+ * Maps a record or class to a section, each property to the first key of its path. Null properties are not set.
+ */
+public class BindingMapper<T> implements ConfigMapper.Section<T> {
+
+    private final TypeBinding.Property[] properties;
+
+    public BindingMapper(@NotNull Class<T> type) {
+        this.properties = TypeBinding.of(type).getProperties();
+    }
+
+    @Override
+    public void mapToSection(@NotNull ConfigSection section, @NotNull T value) {
+        for (TypeBinding.Property property : properties) {
+            Object propertyValue;
+            try {
+                propertyValue = property.get(value);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Could not read property: " + property.getName(), e);
+            }
+            if (propertyValue != null) {
+                section.set(property.getPath(), propertyValue);
+            }
+        }
+    }
+
+}
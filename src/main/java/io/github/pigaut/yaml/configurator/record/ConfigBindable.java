@@ -0,0 +1,14 @@
+package io.github.pigaut.yaml.configurator.record;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a record or class for the YamlConfig annotation processor, which generates a {@code <Name>ConfigBinding}
+ * class next to it with a loader, a mapper and a {@code register(Configurator)} method. Records are bound by their
+ * components and classes by their non-static fields, see {@link ConfigKey} and {@link ConfigDefault}.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface ConfigBindable {
+}
@@ -0,0 +1,15 @@
+package io.github.pigaut.yaml.configurator.record;
+
+import java.lang.annotation.*;
+
+/**
+ * Sets the value a record component or field is loaded from when it is not set in the config.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.RECORD_COMPONENT, ElementType.FIELD})
+public @interface ConfigDefault {
+
+    String value();
+
+}
@@ -0,0 +1,16 @@
+package io.github.pigaut.yaml.configurator.record;
+
+import java.lang.annotation.*;
+
+/**
+ * Sets the path a record component or field is stored at, aliases are separated by {@code |}
+ * and the first one is used when saving.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.RECORD_COMPONENT, ElementType.FIELD})
+public @interface ConfigKey {
+
+    String value();
+
+}
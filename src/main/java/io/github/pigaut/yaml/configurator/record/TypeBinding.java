@@ -0,0 +1,219 @@
+package io.github.pigaut.yaml.configurator.record;
+
+import io.github.pigaut.yaml.path.*;
+import org.jetbrains.annotations.*;
+
+import java.lang.invoke.*;
+import java.lang.reflect.*;
+import java.util.*;
+
+/**
+ * The properties and constructor of a bindable type, resolved once per class into method handles. The properties
+ * of a record are its components, set through its canonical constructor. The properties of a class are its
+ * non-static, non-transient fields, set on an instance created with its constructor without parameters, each
+ * field is accessed directly if it is non-private and non-final, or else through its getter and setter.
+ */
+class TypeBinding<T> {
+
+    private static final ClassValue<TypeBinding<?>> BINDINGS = new ClassValue<>() {
+        @Override
+        protected TypeBinding<?> computeValue(Class<?> type) {
+            return new TypeBinding<>(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final boolean record;
+    private final Property[] properties;
+    private final MethodHandle constructor;
+
+    private TypeBinding(Class<T> type) {
+        this.type = type;
+        this.record = type.isRecord();
+
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot access type: " + type.getName(), e);
+        }
+
+        try {
+            if (record) {
+                RecordComponent[] components = type.getRecordComponents();
+                this.properties = new Property[components.length];
+                Class<?>[] parameterTypes = new Class<?>[components.length];
+                for (int i = 0; i < components.length; i++) {
+                    RecordComponent component = components[i];
+                    parameterTypes[i] = component.getType();
+                    properties[i] = new Property(component.getName(), component.getType(), component.getGenericType(),
+                            component, lookup.unreflect(component.getAccessor()), null);
+                }
+                this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                        .asSpreader(Object[].class, parameterTypes.length)
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            }
+            else {
+                this.properties = resolveFields(type, lookup);
+                this.constructor = resolveConstructor(type, lookup);
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Cannot access type: " + type.getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> @NotNull TypeBinding<T> of(@NotNull Class<T> type) {
+        return (TypeBinding<T>) BINDINGS.get(type);
+    }
+
+    @NotNull Class<T> getType() {
+        return type;
+    }
+
+    @NotNull Property[] getProperties() {
+        return properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull T newInstance(@NotNull Object[] arguments) throws Throwable {
+        if (record) {
+            return (T) (Object) constructor.invokeExact(arguments);
+        }
+        Object instance = (Object) constructor.invokeExact();
+        for (int i = 0; i < properties.length; i++) {
+            properties[i].set(instance, arguments[i]);
+        }
+        return (T) instance;
+    }
+
+    private static MethodHandle resolveConstructor(Class<?> type, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+        if (Modifier.isAbstract(type.getModifiers()) || type.isEnum()) {
+            throw new IllegalArgumentException("Cannot bind abstract classes or enums: " + type.getName());
+        }
+        if (type.getEnclosingClass() != null && !Modifier.isStatic(type.getModifiers())) {
+            throw new IllegalArgumentException("Cannot bind inner classes: " + type.getName());
+        }
+        Constructor<?> constructor;
+        try {
+            constructor = type.getDeclaredConstructor();
+        } catch (NoSuchMethodException e) {
+            constructor = null;
+        }
+        if (constructor == null || Modifier.isPrivate(constructor.getModifiers())) {
+            throw new IllegalArgumentException("Bindable classes need a non-private constructor without parameters: " + type.getName());
+        }
+        return lookup.unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+    }
+
+    private static Property[] resolveFields(Class<?> type, MethodHandles.Lookup lookup) throws ReflectiveOperationException {
+        List<Property> properties = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                continue;
+            }
+
+            String name = field.getName();
+            MethodHandle getter;
+            MethodHandle setter;
+            if (!Modifier.isPrivate(modifiers)) {
+                getter = lookup.unreflectGetter(field);
+                setter = Modifier.isFinal(modifiers) ? null : lookup.unreflectSetter(field);
+            }
+            else {
+                String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+                Method getterMethod = findMethod(type, (field.getType() == boolean.class ? "is" : "get") + capitalized);
+                Method setterMethod = findMethod(type, "set" + capitalized, field.getType());
+                getter = getterMethod != null ? lookup.unreflect(getterMethod) : null;
+                setter = setterMethod != null ? lookup.unreflect(setterMethod) : null;
+            }
+            if (getter == null || setter == null) {
+                throw new IllegalArgumentException("Field must be non-private and non-final, or have a getter and a setter: "
+                        + type.getName() + "." + name);
+            }
+            properties.add(new Property(name, field.getType(), field.getGenericType(), field, getter, setter));
+        }
+        return properties.toArray(new Property[0]);
+    }
+
+    private static @Nullable Method findMethod(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            Method method = type.getDeclaredMethod(name, parameterTypes);
+            int modifiers = method.getModifiers();
+            return Modifier.isPrivate(modifiers) || Modifier.isStatic(modifiers) ? null : method;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    static class Property {
+
+        private final String name;
+        private final ConfigPath path;
+        private final Class<?> type;
+        private final @Nullable Class<?> elementType;
+        private final @Nullable String defaultValue;
+        private final MethodHandle getter;
+        private final @Nullable MethodHandle setter;
+
+        private Property(String name, Class<?> type, Type genericType, AnnotatedElement element,
+                         MethodHandle getter, @Nullable MethodHandle setter) {
+            ConfigKey key = element.getAnnotation(ConfigKey.class);
+            ConfigDefault defaultValue = element.getAnnotation(ConfigDefault.class);
+            this.name = name;
+            this.path = ConfigPath.of(key != null ? key.value() : name);
+            this.type = box(type);
+            this.elementType = getElementType(type, genericType);
+            this.defaultValue = defaultValue != null ? defaultValue.value() : null;
+            this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+            this.setter = setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, Object.class)) : null;
+        }
+
+        @NotNull String getName() {
+            return name;
+        }
+
+        @NotNull ConfigPath getPath() {
+            return path;
+        }
+
+        @NotNull Class<?> getType() {
+            return type;
+        }
+
+        @Nullable Class<?> getElementType() {
+            return elementType;
+        }
+
+        @Nullable String getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Nullable Object get(@NotNull Object instance) throws Throwable {
+            return (Object) getter.invokeExact(instance);
+        }
+
+        private void set(Object instance, Object value) throws Throwable {
+            setter.invokeExact(instance, value);
+        }
+
+        // Lists are loaded element by element when their element type is known
+        private static @Nullable Class<?> getElementType(Class<?> type, Type genericType) {
+            if (type != List.class) {
+                return null;
+            }
+            if (genericType instanceof ParameterizedType parameterizedType
+                    && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementType) {
+                return elementType;
+            }
+            return null;
+        }
+
+        private static Class<?> box(Class<?> type) {
+            return MethodType.methodType(type).wrap().returnType();
+        }
+
+    }
+
+}
@@ -24,15 +24,34 @@ public class ParseUtil {
         if (tag.equals(Tag.STR)) {
             return string;
         }
+        if (tag.equals(Tag.INT)) {
+            Object number = parseIntegralOrNull(string);
+            if (number != null) {
+                return number;
+            }
+        }
         return parseAsScalar(string);
     }
 
+    // Integers that do not fit an int are kept as a long instead of losing precision as a double
+    private static @Nullable Object parseIntegralOrNull(String string) {
+        if (!isIntegral(string, Long.MIN_VALUE, Long.MAX_VALUE)) {
+            return null;
+        }
+        long number = getIntegralValue(string);
+        return number == (int) number ? (Object) (int) number : (Object) number;
+    }
+
     public static Object parseAsScalar(@NotNull String string) {
         Boolean bool = parseBooleanOrNull(string);
         if (bool != null) {
             return bool;
         }
 
+        if (!isNumberCandidate(string)) {
+            return string;
+        }
+
         Integer integerNumber = parseIntegerOrNull(string);
         if (integerNumber != null) {
             return integerNumber;
@@ -71,11 +90,13 @@ public class ParseUtil {
     }
 
     public static Boolean parseBooleanOrNull(String string) {
-        try {
-            return parseBoolean(string);
-        } catch (StringParseException e) {
-            return null;
+        if (string.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (string.equalsIgnoreCase("false")) {
+            return false;
         }
+        return null;
     }
 
     public static boolean parseBoolean(String string) throws StringParseException {
@@ -138,11 +159,10 @@ public class ParseUtil {
     }
 
     public static @Nullable Integer parseIntegerOrNull(String string) {
-        try {
-            return parseInteger(string);
-        } catch (StringParseException e) {
+        if (!isIntegral(string, Integer.MIN_VALUE, Integer.MAX_VALUE)) {
             return null;
         }
+        return (int) getIntegralValue(string);
     }
 
     public static int parseInteger(String string) throws StringParseException {
@@ -154,11 +174,10 @@ public class ParseUtil {
     }
 
     public static @Nullable Long parseLongOrNull(String string) {
-        try {
-            return parseLong(string);
-        } catch (StringParseException e) {
+        if (!isIntegral(string, Long.MIN_VALUE, Long.MAX_VALUE)) {
             return null;
         }
+        return getIntegralValue(string);
     }
 
     public static long parseLong(String string) throws StringParseException {
@@ -170,11 +189,11 @@ public class ParseUtil {
     }
 
     public static @Nullable Float parseFloatOrNull(String string) {
-        try {
-            return parseFloat(string);
-        } catch (StringParseException e) {
+        String number = removeWhitespace(string);
+        if (!isDecimal(number)) {
             return null;
         }
+        return Float.parseFloat(number);
     }
 
     public static float parseFloat(String string) throws StringParseException {
@@ -186,11 +205,11 @@ public class ParseUtil {
     }
 
     public static @Nullable Double parseDoubleOrNull(String string) {
-        try {
-            return parseDouble(string);
-        } catch (StringParseException e) {
+        String number = removeWhitespace(string);
+        if (!isDecimal(number)) {
             return null;
         }
+        return Double.parseDouble(number);
     }
 
     public static double parseDouble(String string) throws StringParseException {
@@ -573,5 +592,206 @@ public class ParseUtil {
             }
         };
     }
-    
+
+    /*
+     * The numbers above are parsed without exceptions. The string is checked against what the parse methods of
+     * Integer, Long, Float and Double accept once whitespace is removed, and only parsed when it is a number.
+     */
+
+    // Characters that can be part of a number, Unicode digits are also accepted by Integer.parseInt
+    private static boolean isNumberCandidate(String string) {
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c <= ' ' || (c >= '0' && c <= '9') || "+-.aAbBcCdDeEfFxXpPNIinty".indexOf(c) != -1) {
+                continue;
+            }
+            if (!Character.isDigit(c)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // The characters removed by replaceAll("\\s", "")
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static String removeWhitespace(String string) {
+        int length = string.length();
+        int i = 0;
+        while (i < length && !isWhitespace(string.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return string;
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        builder.append(string, 0, i);
+        for (; i < length; i++) {
+            char c = string.charAt(i);
+            if (!isWhitespace(c)) {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    // Same rules as Long.parseLong, with the given range
+    private static boolean isIntegral(String string, long min, long max) {
+        boolean negative = false;
+        boolean signSeen = false;
+        boolean digitSeen = false;
+        long limit = -max;
+        long result = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (isWhitespace(c)) {
+                continue;
+            }
+            if (!signSeen && !digitSeen && (c == '-' || c == '+')) {
+                negative = c == '-';
+                limit = negative ? min : -max;
+                signSeen = true;
+                continue;
+            }
+
+            int digit = Character.digit(c, 10);
+            if (digit < 0 || result < limit / 10) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+            digitSeen = true;
+        }
+        return digitSeen;
+    }
+
+    private static long getIntegralValue(String string) {
+        boolean negative = false;
+        long result = 0;
+        for (int i = 0; i < string.length(); i++) {
+            char c = string.charAt(i);
+            if (c == '-') {
+                negative = true;
+            }
+            else if (!isWhitespace(c) && c != '+') {
+                result = result * 10 - Character.digit(c, 10);
+            }
+        }
+        return negative ? result : -result;
+    }
+
+    // Same rules as Double.valueOf, including NaN, Infinity, hexadecimal numbers and type suffixes
+    private static boolean isDecimal(String string) {
+        int start = 0;
+        int end = string.length();
+        while (start < end && string.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && string.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (start == end) {
+            return false;
+        }
+
+        int i = start;
+        char c = string.charAt(i);
+        if (c == '+' || c == '-') {
+            if (++i == end) {
+                return false;
+            }
+            c = string.charAt(i);
+        }
+        if (c == 'N') {
+            return end - i == 3 && string.startsWith("NaN", i);
+        }
+        if (c == 'I') {
+            return end - i == 8 && string.startsWith("Infinity", i);
+        }
+        if (c == '0' && i + 1 < end && (string.charAt(i + 1) == 'x' || string.charAt(i + 1) == 'X')) {
+            return isHexDecimal(string, i + 2, end);
+        }
+
+        boolean digitSeen = false;
+        boolean pointSeen = false;
+        for (; i < end; i++) {
+            c = string.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digitSeen = true;
+            }
+            else if (c == '.' && !pointSeen) {
+                pointSeen = true;
+            }
+            else if (c == '.') {
+                return false;
+            }
+            else {
+                break;
+            }
+        }
+        if (!digitSeen) {
+            return false;
+        }
+
+        if (i < end && (c == 'e' || c == 'E')) {
+            if (++i == end) {
+                return false;
+            }
+            i = skipExponent(string, i, end);
+            if (i == -1) {
+                return false;
+            }
+        }
+        return isTypeSuffix(string, i, end);
+    }
+
+    private static boolean isHexDecimal(String string, int i, int end) {
+        boolean digitSeen = false;
+        boolean pointSeen = false;
+        for (; i < end; i++) {
+            char c = string.charAt(i);
+            if (Character.digit(c, 16) >= 0 && c < 128) {
+                digitSeen = true;
+            }
+            else if (c == '.' && !pointSeen) {
+                pointSeen = true;
+            }
+            else {
+                break;
+            }
+        }
+        if (!digitSeen || i == end || (string.charAt(i) != 'p' && string.charAt(i) != 'P')) {
+            return false;
+        }
+
+        i = skipExponent(string, i + 1, end);
+        return i != -1 && isTypeSuffix(string, i, end);
+    }
+
+    // The end of the signed digits of an exponent, or -1 if there are no digits
+    private static int skipExponent(String string, int i, int end) {
+        if (i < end && (string.charAt(i) == '+' || string.charAt(i) == '-')) {
+            i++;
+        }
+        int digitsStart = i;
+        while (i < end && string.charAt(i) >= '0' && string.charAt(i) <= '9') {
+            i++;
+        }
+        return i != digitsStart ? i : -1;
+    }
+
+    private static boolean isTypeSuffix(String string, int i, int end) {
+        if (i == end) {
+            return true;
+        }
+        char c = string.charAt(i);
+        return i == end - 1 && (c == 'f' || c == 'F' || c == 'd' || c == 'D');
+    }
+
 }
@@ -16,6 +16,11 @@ public class DelayLoader implements ConfigLoader<Delay> {
         return "invalid delay";
     }
 
+    @Override
+    public boolean isCacheable() {
+        return true;
+    }
+
     @Override
     public @NotNull Delay loadFromScalar(ConfigScalar scalar) throws InvalidConfigException {
         try {
@@ -15,10 +15,34 @@ public abstract class Branch extends Field implements ConfigBranch {
     private @Nullable FlowStyle nestedFlowStyle = null;
     private @Nullable ScalarStyle nestedScalarStyle = null;
 
+    // The root of a branch never changes, it is kept so that each change does not walk up the tree to find it
+    private @Nullable ConfigRoot root = null;
+
     protected Branch(@NotNull FlowStyle flowStyle) {
         this.flowStyle = flowStyle;
     }
 
+    protected @NotNull ConfigRoot getCachedRoot() {
+        ConfigRoot root = this.root;
+        if (root == null) {
+            root = getRoot();
+            this.root = root;
+        }
+        return root;
+    }
+
+    // The index of the root that has to be updated when the fields of this branch change, if any
+    protected @Nullable PathIndex getRootPathIndex() {
+        return PathIndex.of(getCachedRoot());
+    }
+
+    @Override
+    protected void checkMutable() {
+        if (getCachedRoot().isFrozen()) {
+            throw new UnsupportedOperationException("Configuration is frozen");
+        }
+    }
+
     @Override
     public abstract int size();
 
@@ -30,6 +54,7 @@ public abstract class Branch extends Field implements ConfigBranch {
     }
 
     public void setFlowStyle(@NotNull FlowStyle flowStyle) {
+        checkMutable();
         this.flowStyle = flowStyle;
     }
 
@@ -40,6 +65,7 @@ public abstract class Branch extends Field implements ConfigBranch {
 
     @Override
     public void setNestedFlowStyle(@Nullable FlowStyle flowStyle) {
+        checkMutable();
         for (ConfigField field : stream().toList()) {
             if (field instanceof ConfigBranch branch) {
                 branch.setFlowStyle(flowStyle);
@@ -55,6 +81,7 @@ public abstract class Branch extends Field implements ConfigBranch {
 
     @Override
     public void setNestedScalarStyle(@Nullable ScalarStyle scalarStyle) {
+        checkMutable();
         for (ConfigField field : stream().toList()) {
             if (field instanceof ConfigScalar scalar) {
                 scalar.setScalarStyle(scalarStyle);
@@ -4,10 +4,9 @@ import io.github.pigaut.yaml.*;
 import org.jetbrains.annotations.*;
 import org.snakeyaml.engine.v2.api.*;
 import org.snakeyaml.engine.v2.emitter.*;
-import org.snakeyaml.engine.v2.nodes.*;
-import org.snakeyaml.engine.v2.serializer.*;
 
 import java.io.*;
+import java.nio.charset.*;
 import java.util.*;
 
 public class ConfigDump {
@@ -20,66 +19,84 @@ public class ConfigDump {
             .build();
 
     public @NotNull String dumpToString(@NotNull ConfigRoot root) {
-        Node rootNode = root.get(Node.class).orElse(null);
-        if (rootNode == null) {
+        StringBuilder builder = new StringBuilder();
+        try {
+            dump(root, builder);
+        } catch (Exception e) {
             return "";
         }
+        return builder.toString();
+    }
 
-        StreamDataWriter writer = new StringStreamDataWriter();
-        Emitter emitter = new Emitter(settings, writer);
-        Serializer serializer = new Serializer(settings, emitter);
-
+    public @NotNull String dumpAllToString(@NotNull Iterator<KeylessField> fields) {
+        StringBuilder builder = new StringBuilder();
         try {
-            serializer.emitStreamStart();
-            serializer.serializeDocument(rootNode);
-            serializer.emitStreamEnd();
+            dumpAll(fields, builder);
         } catch (Exception e) {
             return "";
         }
-
-        return writer.toString();
+        return builder.toString();
     }
 
-    public @NotNull String dumpAllToString(@NotNull Iterator<KeylessField> fields) {
-        StreamDataWriter writer = new StringStreamDataWriter();
-        Emitter emitter = new Emitter(settings, writer);
-        Serializer serializer = new Serializer(settings, emitter);
+    public void dump(@NotNull ConfigRoot root, @NotNull OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        dump(root, writer);
+        writer.flush();
+    }
 
+    public void dump(@NotNull ConfigRoot root, @NotNull Appendable output) throws IOException {
+        ConfigSerializer serializer = new ConfigSerializer(settings, new Emitter(settings, new AppendableStreamDataWriter(output)));
         try {
             serializer.emitStreamStart();
+            serializer.serializeDocument(root);
+            serializer.emitStreamEnd();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    public void dumpAll(@NotNull Iterator<KeylessField> fields, @NotNull OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        dumpAll(fields, writer);
+        writer.flush();
+    }
 
+    public void dumpAll(@NotNull Iterator<KeylessField> fields, @NotNull Appendable output) throws IOException {
+        ConfigSerializer serializer = new ConfigSerializer(settings, new Emitter(settings, new AppendableStreamDataWriter(output)));
+        try {
+            serializer.emitStreamStart();
             while (fields.hasNext()) {
-                ConfigField field = fields.next();
-                Node node = field.get(Node.class).orElse(null);
-                if (node != null) {
-                    serializer.serializeDocument(node);
-                }
+                serializer.serializeDocument(fields.next());
             }
-
             serializer.emitStreamEnd();
-        } catch (Exception e) {
-            return "";
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
-
-        return writer.toString();
     }
 
-    private static class StringStreamDataWriter implements StreamDataWriter {
-        private final StringWriter writer = new StringWriter();
+    private static class AppendableStreamDataWriter implements StreamDataWriter {
+        private final Appendable output;
 
-        @Override
-        public void write(String str) {
-            writer.write(str);
+        private AppendableStreamDataWriter(Appendable output) {
+            this.output = output;
         }
 
         @Override
-        public void write(String str, int off, int len) {
-            writer.write(str, off, len);
+        public void write(String str) {
+            try {
+                output.append(str);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
         }
 
         @Override
-        public String toString() {
-            return writer.toString();
+        public void write(String str, int off, int len) {
+            try {
+                output.append(str, off, off + len);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
         }
     }
 
@@ -0,0 +1,207 @@
+package io.github.pigaut.yaml.node;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.scalar.*;
+import io.github.pigaut.yaml.node.section.*;
+import io.github.pigaut.yaml.node.sequence.*;
+import io.github.pigaut.yaml.path.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * Creates the copies returned by {@link ConfigRoot#freeze()} and {@link ConfigRoot#thaw()}. Unlike
+ * {@link ConfigTreeBuilder#copy(Field, Field)} keys are copied as they are and styles are kept,
+ * so the copy saves to the same document.
+ * <p>
+ * It also copies the fields on a path of a root that shares the fields of a frozen root, as returned by
+ * {@code copyShared()}, so that a change only copies the branches on its path. The copy of a branch shares the fields
+ * inside it, which keep the frozen branch as their parent.
+ */
+public class ConfigFreezer {
+
+    private ConfigFreezer() {}
+
+    /**
+     * Copies the source field into the empty target field.
+     */
+    public static void copy(@NotNull Field source, @NotNull Field target) {
+        if (source instanceof Section sourceSection) {
+            Section targetSection = (Section) target;
+            for (KeyedField field : sourceSection) {
+                copyKeyedField((Field) field, targetSection);
+            }
+        }
+        else if (source instanceof Sequence sourceSequence) {
+            Sequence targetSequence = (Sequence) target;
+            if (!targetSequence.sharePackedNumbers(sourceSequence)) {
+                for (KeylessField field : sourceSequence) {
+                    copy((Field) field, addKeylessField(targetSequence, (Field) field));
+                }
+            }
+        }
+        else {
+            Scalar targetScalar = (Scalar) target;
+            targetScalar.setValue(((Scalar) source).getValue());
+            targetScalar.setScalarStyle(((Scalar) source).getScalarStyle());
+        }
+
+        if (source instanceof Branch sourceBranch) {
+            ((Branch) target).setFlowStyle(sourceBranch.getFlowStyle());
+        }
+        target.setBlockComments(source.getBlockComments());
+        target.setInLineComments(source.getInLineComments());
+    }
+
+    private static void copyKeyedField(Field field, Section target) {
+        KeyedField keyedField = (KeyedField) field;
+        String key = keyedField.getKey();
+        Field copy;
+        if (field instanceof Section) {
+            copy = new KeyedSection(target, key);
+        }
+        else if (field instanceof Sequence) {
+            copy = new KeyedSequence(target, key);
+        }
+        else {
+            copy = new KeyedScalar(target, key, "");
+        }
+        target.addNode((KeyedField) copy);
+        copy(field, copy);
+
+        copyKey(keyedField, (KeyedField) copy);
+    }
+
+    private static void copyKey(KeyedField source, KeyedField target) {
+        ConfigScalar sourceKey = source.getKeyScalar();
+        ConfigScalar targetKey = target.getKeyScalar();
+        targetKey.setScalarStyle(sourceKey.getScalarStyle());
+        targetKey.setBlockComments(sourceKey.getBlockComments());
+        targetKey.setInLineComments(sourceKey.getInLineComments());
+    }
+
+    private static Field addKeylessField(Sequence sequence, Field field) {
+        if (field instanceof Section) {
+            return (Field) sequence.addEmptySection();
+        }
+        if (field instanceof Sequence) {
+            return (Field) sequence.addEmptySequence();
+        }
+        return (Field) sequence.addEmptyScalar();
+    }
+
+    /**
+     * Replaces the shared branches on the path to the last key by copies, starting from the given root.
+     * Returns the branch that holds the last key, or null if the path stops at a missing field or a scalar before it.
+     */
+    public static @Nullable Branch copyPath(@NotNull Branch root, @NotNull List<FieldKey> keys) {
+        Branch branch = root;
+        for (int i = 0; i < keys.size() - 1; i++) {
+            ConfigField field = keys.get(i).getField(branch);
+            if (!(field instanceof Branch)) {
+                return null;
+            }
+            Field child = (Field) field;
+            if (child.getParent() != branch) {
+                child = copyShell(child, branch);
+                replaceNode(branch, child);
+            }
+            branch = (Branch) child;
+        }
+        return branch;
+    }
+
+    /**
+     * Replaces the field of the key by a copy of the field and every field inside it, since setting a value
+     * can modify them.
+     */
+    public static void copyField(@NotNull Branch parent, @NotNull FieldKey key) {
+        ConfigField field = key.getField(parent);
+        if (field == null) {
+            return;
+        }
+        Field copy = createField((Field) field, parent);
+        if (parent instanceof Section section) {
+            section.addNode((KeyedField) copy);
+        }
+        else {
+            ((Sequence) parent).addNode((KeylessField) copy);
+        }
+        copy((Field) field, copy);
+    }
+
+    /**
+     * Replaces the shared fields after the index by copies of them and every field inside them, since removing the
+     * field at the index changes the index of the fields after it, and so the path of every field inside them.
+     */
+    public static void copyFieldsFrom(@NotNull Sequence sequence, int index) {
+        for (int i = index + 1; i < sequence.size(); i++) {
+            Field field = (Field) sequence.getNode(i);
+            if (field.getParent() != sequence) {
+                Field copy = createField(field, sequence);
+                sequence.replaceNode((KeylessField) copy);
+                copy(field, copy);
+            }
+        }
+    }
+
+    private static Field copyShell(Field source, Branch parent) {
+        Field copy = createField(source, parent);
+        if (source instanceof Section sourceSection) {
+            ((Section) copy).shareNodes(sourceSection);
+        }
+        else if (source instanceof Sequence sourceSequence) {
+            ((Sequence) copy).shareNodes(sourceSequence);
+        }
+        else {
+            ((Scalar) copy).setValue(((Scalar) source).getValue());
+            ((Scalar) copy).setScalarStyle(((Scalar) source).getScalarStyle());
+        }
+
+        if (source instanceof Branch sourceBranch) {
+            ((Branch) copy).setFlowStyle(sourceBranch.getFlowStyle());
+        }
+        copy.setBlockComments(source.getBlockComments());
+        copy.setInLineComments(source.getInLineComments());
+        return copy;
+    }
+
+    // An empty field of the same type and key or index as the source, not added to the parent yet
+    private static Field createField(Field source, Branch parent) {
+        if (parent instanceof Section section) {
+            String key = source.getKey();
+            Field field;
+            if (source instanceof Section) {
+                field = new KeyedSection(section, key);
+            }
+            else if (source instanceof Sequence) {
+                field = new KeyedSequence(section, key);
+            }
+            else {
+                field = new KeyedScalar(section, key, "");
+            }
+            copyKey((KeyedField) source, (KeyedField) field);
+            return field;
+        }
+
+        Sequence sequence = (Sequence) parent;
+        int index = ((KeylessField) source).getIndex();
+        if (source instanceof Section) {
+            return new KeylessSection(sequence, index);
+        }
+        if (source instanceof Sequence) {
+            return new KeylessSequence(sequence, index);
+        }
+        return new KeylessScalar(sequence, index, "");
+    }
+
+    private static void replaceNode(Branch parent, Field copy) {
+        if (parent instanceof Section section) {
+            section.replaceNode((KeyedField) copy);
+        }
+        else {
+            ((Sequence) parent).replaceNode((KeylessField) copy);
+        }
+    }
+
+}
@@ -1,5 +1,7 @@
 package io.github.pigaut.yaml.node;
 
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.util.*;
 import org.jetbrains.annotations.*;
 import org.snakeyaml.engine.v2.api.*;
 import org.snakeyaml.engine.v2.composer.*;
@@ -13,12 +15,37 @@ import java.util.*;
 
 public class ConfigLoad {
 
-    private final LoadSettings settings = LoadSettings.builder()
-            .setParseComments(true)
-            .build();
+    // The most code points snakeyaml reads from a single input by default, 3 MB
+    public static final int DEFAULT_CODE_POINT_LIMIT = 3 * 1024 * 1024;
+
+    private final LoadProfile profile;
+    private final int codePointLimit;
+    private final LoadSettings settings;
 
     public ConfigLoad() {
+        this(LoadProfile.DEFAULT);
+    }
+
+    public ConfigLoad(@NotNull LoadProfile profile) {
+        this(profile, DEFAULT_CODE_POINT_LIMIT);
+    }
+
+    public ConfigLoad(@NotNull LoadProfile profile, int codePointLimit) {
+        Preconditions.checkArgument(codePointLimit > 0, "Code point limit must be positive");
+        this.profile = profile;
+        this.codePointLimit = codePointLimit;
+        this.settings = LoadSettings.builder()
+                .setParseComments(profile.isParseComments())
+                .setCodePointLimit(codePointLimit)
+                .build();
+    }
+
+    public @NotNull LoadProfile getProfile() {
+        return profile;
+    }
 
+    public int getCodePointLimit() {
+        return codePointLimit;
     }
 
     private Composer createComposer(StreamReader streamReader) {
@@ -58,6 +85,25 @@ public class ConfigLoad {
         return loadOne(createComposer(yaml));
     }
 
+    public @NotNull ConfigTreeBuilder createTreeBuilder(@NotNull InputStream yamlStream) {
+        Objects.requireNonNull(yamlStream, "InputStream cannot be null");
+        return createTreeBuilder(new StreamReader(settings, new YamlUnicodeReader(yamlStream)));
+    }
+
+    public @NotNull ConfigTreeBuilder createTreeBuilder(@NotNull Reader yamlReader) {
+        Objects.requireNonNull(yamlReader, "Reader cannot be null");
+        return createTreeBuilder(new StreamReader(settings, yamlReader));
+    }
+
+    public @NotNull ConfigTreeBuilder createTreeBuilder(@NotNull String yaml) {
+        Objects.requireNonNull(yaml, "String cannot be null");
+        return createTreeBuilder(new StreamReader(settings, yaml));
+    }
+
+    private ConfigTreeBuilder createTreeBuilder(StreamReader streamReader) {
+        return new ConfigTreeBuilder(settings, new CommentFixingParser(settings, streamReader));
+    }
+
     private Iterable<Node> loadAll(Composer composer) {
         return () -> composer;
     }
@@ -0,0 +1,138 @@
+package io.github.pigaut.yaml.node;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.security.*;
+
+/**
+ * Saves a root as UTF-8 to a new temporary file next to the target and moves it over the target atomically.
+ * The content hash of the last saved or loaded file is kept, so saving unchanged contents does not touch the file.
+ */
+public class ConfigSave {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private @Nullable Path savedPath;
+    private long savedHash;
+
+    public synchronized void setSavedState(@NotNull File file, long hash) {
+        this.savedPath = file.toPath().toAbsolutePath();
+        this.savedHash = hash;
+    }
+
+    public synchronized long getSavedHash() {
+        return savedHash;
+    }
+
+    // Whether the file was last saved or loaded with contents of the given hash
+    public synchronized boolean isSaved(@NotNull File file, long hash) {
+        return file.toPath().toAbsolutePath().equals(savedPath) && hash == savedHash;
+    }
+
+    public void copySavedState(@NotNull ConfigSave source) {
+        Path path;
+        long hash;
+        synchronized (source) {
+            path = source.savedPath;
+            hash = source.savedHash;
+        }
+        synchronized (this) {
+            this.savedPath = path;
+            this.savedHash = hash;
+        }
+    }
+
+    // The root is dumped once, and the same contents are hashed and written
+    public synchronized boolean save(@NotNull ConfigRoot root, @NotNull File file) {
+        CharSequence content = snapshot(root);
+        return content != null && save(content, file);
+    }
+
+    public synchronized boolean save(@NotNull CharSequence content, @NotNull File file) {
+        return write(file, new ContentHash().append(content).getValue(), content);
+    }
+
+    // Serializes the root on the calling thread, so the contents can be written from another thread
+    public static @Nullable CharSequence snapshot(@NotNull ConfigRoot root) {
+        StringBuilder snapshot = new StringBuilder();
+        try {
+            root.saveTo(snapshot);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+        return snapshot;
+    }
+
+    // Contents that match the saved state are skipped before anything is written
+    private boolean write(File file, long hash, CharSequence content) {
+        Path path = file.toPath().toAbsolutePath();
+        if (Files.exists(path) && !Files.isRegularFile(path)) {
+            return false;
+        }
+        if (path.equals(savedPath) && hash == savedHash && Files.isRegularFile(path)) {
+            return true;
+        }
+
+        Path tempPath = null;
+        try {
+            Files.createDirectories(path.getParent());
+            tempPath = createTempFile(path);
+            copyPermissions(path, tempPath);
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+                Writer writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+                writer.append(content);
+                writer.flush();
+                channel.force(false);
+            }
+            move(tempPath, path);
+            tempPath = null;
+            savedPath = path;
+            savedHash = hash;
+            return true;
+        } catch (IOException e) {
+            return false;
+        } finally {
+            if (tempPath != null) {
+                try {
+                    Files.deleteIfExists(tempPath);
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    // Unlike Files.createTempFile, the file is created with the default permissions, so new files honor the umask
+    private static Path createTempFile(Path path) throws IOException {
+        String prefix = "." + path.getFileName() + ".";
+        while (true) {
+            Path tempPath = path.resolveSibling(prefix + Long.toUnsignedString(RANDOM.nextLong()) + ".tmp");
+            try {
+                return Files.createFile(tempPath);
+            } catch (FileAlreadyExistsException ignored) {}
+        }
+    }
+
+    // The saved file keeps the permissions it had
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        if (!Files.isRegularFile(source)) {
+            return;
+        }
+        try {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        } catch (UnsupportedOperationException ignored) {}
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+}
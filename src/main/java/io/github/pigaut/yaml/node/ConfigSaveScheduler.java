@@ -0,0 +1,224 @@
+package io.github.pigaut.yaml.node;
+
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Writes saves on a background thread after a delay, a save requested for a root that already has one
+ * pending joins the pending save instead of scheduling another write. The contents of a save are serialized
+ * on the owner executor, the thread that modifies the root, or on the calling thread when there is no owner
+ * executor, so only the file is written in the background.
+ */
+public class ConfigSaveScheduler {
+
+    public static final long DEFAULT_DELAY_MILLIS = 1000;
+
+    private static final ConfigSaveScheduler DEFAULT = new ConfigSaveScheduler(DEFAULT_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+
+    private final ScheduledThreadPoolExecutor executor;
+    private final long delayNanos;
+    private final Map<Object, PendingSave> pendingSaves = new IdentityHashMap<>();
+    // Saves whose delay has passed and whose contents have not been serialized yet
+    private final Set<PendingSave> awaitingSnapshot = new LinkedHashSet<>();
+    private volatile @Nullable Executor ownerExecutor;
+
+    public ConfigSaveScheduler(long delay, @NotNull TimeUnit unit) {
+        Preconditions.checkArgument(delay >= 0, "Delay cannot be negative");
+        this.delayNanos = unit.toNanos(delay);
+        this.executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "YamlConfig Save");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.executor.setRemoveOnCancelPolicy(true);
+    }
+
+    public static @NotNull ConfigSaveScheduler getDefault() {
+        return DEFAULT;
+    }
+
+    public @Nullable Executor getOwnerExecutor() {
+        return ownerExecutor;
+    }
+
+    /**
+     * Sets the executor that runs the snapshots of saves scheduled without an owner executor, it must run
+     * on the thread that modifies the roots. Without one, those snapshots are taken on the calling thread.
+     */
+    public void setOwnerExecutor(@Nullable Executor ownerExecutor) {
+        this.ownerExecutor = ownerExecutor;
+    }
+
+    /**
+     * Schedules a save whose contents are taken by running the snapshot once the delay has passed, on the
+     * owner executor of this scheduler. Without an owner executor the snapshot is taken right away on the
+     * calling thread, and only the write joins a pending save, since the save thread must not read the tree.
+     * The snapshot returns null if the contents cannot be serialized.
+     */
+    public @NotNull CompletableFuture<Boolean> schedule(@NotNull Object key,
+                                                        @NotNull Supplier<? extends @Nullable CharSequence> snapshot,
+                                                        @NotNull Predicate<CharSequence> write) {
+        Executor ownerExecutor = this.ownerExecutor;
+        if (ownerExecutor != null) {
+            return enqueue(key, ownerExecutor, snapshot, write);
+        }
+        CharSequence content = snapshot.get();
+        if (content == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return schedule(key, content, write);
+    }
+
+    /**
+     * Schedules a save whose contents are taken by running the snapshot on the owner executor once the delay
+     * has passed, so the contents include every change made on the owner thread until then.
+     * The snapshot returns null if the contents cannot be serialized.
+     */
+    public @NotNull CompletableFuture<Boolean> schedule(@NotNull Object key, @NotNull Executor ownerExecutor,
+                                                        @NotNull Supplier<? extends @Nullable CharSequence> snapshot,
+                                                        @NotNull Predicate<CharSequence> write) {
+        Preconditions.checkNotNull(ownerExecutor, "Owner executor cannot be null");
+        return enqueue(key, ownerExecutor, snapshot, write);
+    }
+
+    /**
+     * Schedules a save of contents that were already serialized, a pending save of the same key writes the
+     * latest contents instead.
+     */
+    public @NotNull CompletableFuture<Boolean> schedule(@NotNull Object key, @NotNull CharSequence content,
+                                                        @NotNull Predicate<CharSequence> write) {
+        return enqueue(key, null, () -> content, write);
+    }
+
+    private CompletableFuture<Boolean> enqueue(Object key, @Nullable Executor ownerExecutor,
+                                               Supplier<? extends CharSequence> snapshot, Predicate<CharSequence> write) {
+        synchronized (pendingSaves) {
+            PendingSave pendingSave = pendingSaves.get(key);
+            if (pendingSave != null) {
+                pendingSave.ownerExecutor = ownerExecutor;
+                pendingSave.snapshot = snapshot;
+                pendingSave.write = write;
+                return pendingSave.future;
+            }
+
+            PendingSave newSave = new PendingSave(ownerExecutor, snapshot, write);
+            pendingSaves.put(key, newSave);
+            newSave.task = executor.schedule(() -> start(key, newSave), delayNanos, TimeUnit.NANOSECONDS);
+            return newSave.future;
+        }
+    }
+
+    private void start(Object key, PendingSave save) {
+        Executor ownerExecutor;
+        synchronized (pendingSaves) {
+            if (pendingSaves.get(key) != save) {
+                return;
+            }
+            pendingSaves.remove(key);
+            ownerExecutor = save.ownerExecutor;
+            if (ownerExecutor != null) {
+                awaitingSnapshot.add(save);
+            }
+        }
+
+        if (ownerExecutor == null) {
+            save.run();
+            return;
+        }
+
+        try {
+            ownerExecutor.execute(() -> {
+                synchronized (pendingSaves) {
+                    if (!awaitingSnapshot.remove(save)) {
+                        return;
+                    }
+                }
+                CharSequence content = save.takeSnapshot();
+                if (content != null) {
+                    executor.execute(() -> save.write(content));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            synchronized (pendingSaves) {
+                awaitingSnapshot.remove(save);
+            }
+            save.future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Runs every pending save on the calling thread once the writes already running have finished.
+     * Call it from the thread that owns the roots, since the contents of the pending saves are serialized on it.
+     */
+    public void flushAll() {
+        List<PendingSave> saves;
+        synchronized (pendingSaves) {
+            saves = new ArrayList<>(awaitingSnapshot);
+            saves.addAll(pendingSaves.values());
+            awaitingSnapshot.clear();
+            pendingSaves.clear();
+        }
+
+        for (PendingSave save : saves) {
+            save.task.cancel(false);
+        }
+
+        try {
+            executor.submit(() -> {}).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {}
+
+        for (PendingSave save : saves) {
+            save.run();
+        }
+    }
+
+    private static class PendingSave {
+        private final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        private @Nullable Executor ownerExecutor;
+        private Supplier<? extends CharSequence> snapshot;
+        private Predicate<CharSequence> write;
+        private ScheduledFuture<?> task;
+
+        private PendingSave(@Nullable Executor ownerExecutor, Supplier<? extends CharSequence> snapshot,
+                            Predicate<CharSequence> write) {
+            this.ownerExecutor = ownerExecutor;
+            this.snapshot = snapshot;
+            this.write = write;
+        }
+
+        private void run() {
+            CharSequence content = takeSnapshot();
+            if (content != null) {
+                write(content);
+            }
+        }
+
+        private @Nullable CharSequence takeSnapshot() {
+            try {
+                CharSequence content = snapshot.get();
+                if (content == null) {
+                    future.complete(false);
+                }
+                return content;
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+                return null;
+            }
+        }
+
+        private void write(CharSequence content) {
+            try {
+                future.complete(write.test(content));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,112 @@
+package io.github.pigaut.yaml.node;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.sequence.*;
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+import org.snakeyaml.engine.v2.api.*;
+import org.snakeyaml.engine.v2.comments.*;
+import org.snakeyaml.engine.v2.common.*;
+import org.snakeyaml.engine.v2.emitter.*;
+import org.snakeyaml.engine.v2.events.*;
+import org.snakeyaml.engine.v2.nodes.*;
+import org.snakeyaml.engine.v2.resolver.*;
+
+import java.util.*;
+
+/**
+ * Emits config fields as events, the same way the snakeyaml serializer emits the nodes that
+ * {@link io.github.pigaut.yaml.configurator.load.NodeLoader} would create for them, without creating the nodes.
+ */
+public class ConfigSerializer {
+
+    private final DumpSettings settings;
+    private final Emitable emitable;
+    private final ScalarResolver scalarResolver;
+
+    public ConfigSerializer(@NotNull DumpSettings settings, @NotNull Emitable emitable) {
+        this.settings = settings;
+        this.emitable = emitable;
+        this.scalarResolver = settings.getSchema().getScalarResolver();
+    }
+
+    public void emitStreamStart() {
+        emitable.emit(new StreamStartEvent());
+    }
+
+    public void emitStreamEnd() {
+        emitable.emit(new StreamEndEvent());
+    }
+
+    public void serializeDocument(@NotNull ConfigField field) {
+        emitable.emit(new DocumentStartEvent(settings.isExplicitStart(), settings.getYamlDirective(), settings.getTagDirective()));
+        serializeField(field);
+        emitable.emit(new DocumentEndEvent(settings.isExplicitEnd()));
+    }
+
+    private void serializeField(ConfigField field) {
+        if (field instanceof ConfigSection section) {
+            serializeSection(section);
+        }
+        else if (field instanceof ConfigSequence sequence) {
+            serializeSequence(sequence);
+        }
+        else if (field instanceof ConfigScalar scalar) {
+            serializeScalar(scalar);
+        }
+    }
+
+    private void serializeSection(ConfigSection section) {
+        serializeComments(section.getBlockComments());
+        emitable.emit(new MappingStartEvent(Optional.empty(), Optional.of(Tag.MAP.getValue()), true,
+                section.getFlowStyle(), Optional.empty(), Optional.empty()));
+        for (KeyedField field : section) {
+            serializeScalar(field.getKeyScalar());
+            serializeField(field);
+        }
+        emitable.emit(new MappingEndEvent());
+        serializeComments(section.getInLineComments());
+    }
+
+    private void serializeSequence(ConfigSequence sequence) {
+        serializeComments(sequence.getBlockComments());
+        emitable.emit(new SequenceStartEvent(Optional.empty(), Optional.of(Tag.SEQ.getValue()), true,
+                sequence.getFlowStyle()));
+        // Elements kept in a primitive array are written from their value, without creating their scalar
+        Sequence nodeSequence = (Sequence) sequence;
+        for (int i = 0; i < nodeSequence.size(); i++) {
+            Object packedValue = nodeSequence.getPackedValue(i);
+            if (packedValue != null) {
+                serializeValue(packedValue, ScalarStyle.PLAIN);
+                continue;
+            }
+            serializeField(nodeSequence.getNode(i));
+        }
+        emitable.emit(new SequenceEndEvent());
+        serializeComments(sequence.getInLineComments());
+    }
+
+    private void serializeScalar(ConfigScalar scalar) {
+        serializeComments(scalar.getBlockComments());
+        serializeValue(scalar.getValue(), scalar.getScalarStyle());
+        serializeComments(scalar.getInLineComments());
+    }
+
+    private void serializeValue(Object scalarValue, ScalarStyle scalarStyle) {
+        Tag tag = ScalarUtil.getTag(scalarValue);
+        String value = scalarValue.toString();
+        ImplicitTuple implicit = new ImplicitTuple(tag.equals(scalarResolver.resolve(value, true)),
+                tag.equals(scalarResolver.resolve(value, false)));
+        emitable.emit(new ScalarEvent(Optional.empty(), Optional.of(tag.getValue()), implicit, value, scalarStyle));
+    }
+
+    private void serializeComments(List<CommentLine> comments) {
+        if (!settings.getDumpComments() || comments == null) {
+            return;
+        }
+        for (CommentLine line : comments) {
+            emitable.emit(new CommentEvent(line.getCommentType(), line.getValue(), line.getStartMark(), line.getEndMark()));
+        }
+    }
+
+}
@@ -0,0 +1,451 @@
+package io.github.pigaut.yaml.node;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.configurator.*;
+import io.github.pigaut.yaml.convert.parse.ParseUtil;
+import io.github.pigaut.yaml.node.scalar.*;
+import io.github.pigaut.yaml.node.section.*;
+import io.github.pigaut.yaml.node.sequence.*;
+import io.github.pigaut.yaml.path.*;
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+import org.snakeyaml.engine.v2.api.*;
+import org.snakeyaml.engine.v2.comments.*;
+import org.snakeyaml.engine.v2.common.*;
+import org.snakeyaml.engine.v2.composer.*;
+import org.snakeyaml.engine.v2.events.*;
+import org.snakeyaml.engine.v2.exceptions.*;
+import org.snakeyaml.engine.v2.nodes.*;
+import org.snakeyaml.engine.v2.parser.*;
+import org.snakeyaml.engine.v2.resolver.*;
+
+import java.util.*;
+
+/**
+ * Builds config fields straight from parser events, without composing a snakeyaml node graph first.
+ * Comments are collected the same way the {@link Composer} collects them, and keys are added with the
+ * same rules as {@link Section#add(Object)}, so the resulting tree is the same as mapping the composed nodes.
+ */
+public class ConfigTreeBuilder {
+
+    private final LoadSettings settings;
+    private final Parser parser;
+    private final ScalarResolver scalarResolver;
+    private final CommentEventsCollector blockCommentsCollector;
+    private final CommentEventsCollector inlineCommentsCollector;
+    private final Map<Anchor, Object> anchors = new HashMap<>();
+    private final Set<Anchor> openAnchors = new HashSet<>();
+    private int nonScalarAliasesCount = 0;
+
+    public ConfigTreeBuilder(@NotNull LoadSettings settings, @NotNull Parser parser) {
+        this.settings = settings;
+        this.parser = parser;
+        this.scalarResolver = settings.getSchema().getScalarResolver();
+        this.blockCommentsCollector = new CommentEventsCollector(parser, CommentType.BLANK_LINE, CommentType.BLOCK);
+        this.inlineCommentsCollector = new CommentEventsCollector(parser, CommentType.IN_LINE);
+    }
+
+    public boolean hasNextDocument() {
+        if (parser.checkEvent(Event.ID.StreamStart)) {
+            parser.next();
+        }
+        return !parser.checkEvent(Event.ID.StreamEnd);
+    }
+
+    /**
+     * Returns the field type of the next document, a document that only has comments is a section.
+     */
+    public @NotNull FieldType peekDocumentType() {
+        blockCommentsCollector.collectEvents();
+        if (parser.checkEvent(Event.ID.StreamEnd)) {
+            return FieldType.SECTION;
+        }
+        if (parser.checkEvent(Event.ID.DocumentStart)) {
+            parser.next();
+        }
+        blockCommentsCollector.collectEvents();
+        return peekFieldType();
+    }
+
+    public boolean isEmptyScalarDocument() {
+        peekDocumentType();
+        return parser.peekEvent() instanceof ScalarEvent event && event.getValue().isEmpty();
+    }
+
+    /**
+     * Builds the next document into the given root, the same way {@link Composer#next()} composes it.
+     */
+    public void buildDocument(@NotNull Field root) {
+        FieldType type = peekDocumentType();
+        if (parser.checkEvent(Event.ID.StreamEnd)) {
+            ((Section) root).setBlockComments(blockCommentsCollector.consume());
+            return;
+        }
+
+        Preconditions.checkArgument(typeOf(root) == type, "Expected a " + type.name().toLowerCase() + " document");
+        buildField(root);
+
+        blockCommentsCollector.collectEvents();
+        if (!blockCommentsCollector.isEmpty()) {
+            blockCommentsCollector.consume();
+        }
+        parser.next();
+        anchors.clear();
+        openAnchors.clear();
+        nonScalarAliasesCount = 0;
+    }
+
+    /**
+     * Builds the next document as a new element of the given sequence.
+     */
+    public void buildDocument(@NotNull Sequence sequence) {
+        FieldType type = peekDocumentType();
+        if (parser.checkEvent(Event.ID.StreamEnd)) {
+            sequence.addEmptySection().setBlockComments(blockCommentsCollector.consume());
+            return;
+        }
+        buildDocument(addKeylessField(sequence, type));
+    }
+
+    /**
+     * Builds the only document of the stream into the given root, the same way {@link Composer#getSingleNode()}
+     * composes it. Returns false without changing the root if the document does not match the root type.
+     */
+    public boolean buildSingleDocument(@NotNull Field root) {
+        parser.next();
+        if (parser.checkEvent(Event.ID.StreamEnd)) {
+            return false;
+        }
+
+        if (typeOf(root) != peekDocumentType()) {
+            return false;
+        }
+
+        Event documentStart = parser.peekEvent();
+        buildDocument(root);
+        root.setInLineComments(inlineCommentsCollector.collectEvents().consume());
+        root.setBlockComments(blockCommentsCollector.collectEvents().consume());
+
+        if (!parser.checkEvent(Event.ID.StreamEnd)) {
+            Event event = parser.next();
+            throw new ComposerException("expected a single document in the stream", documentStart.getStartMark(),
+                    "but found another document", event.getStartMark());
+        }
+        parser.next();
+        return true;
+    }
+
+    private FieldType peekFieldType() {
+        if (parser.checkEvent(Event.ID.Alias)) {
+            AliasEvent event = (AliasEvent) parser.peekEvent();
+            Object anchored = anchors.get(event.getAlias());
+            if (anchored == null) {
+                throw new ComposerException("found undefined alias " + event.getAlias(), event.getStartMark());
+            }
+            if (anchored instanceof AnchoredScalar) {
+                return FieldType.SCALAR;
+            }
+            return anchored instanceof Section ? FieldType.SECTION : FieldType.SEQUENCE;
+        }
+        if (parser.checkEvent(Event.ID.Scalar)) {
+            return FieldType.SCALAR;
+        }
+        if (parser.checkEvent(Event.ID.SequenceStart)) {
+            return FieldType.SEQUENCE;
+        }
+        return FieldType.SECTION;
+    }
+
+    private void buildField(Field field) {
+        blockCommentsCollector.collectEvents();
+        if (parser.checkEvent(Event.ID.Alias)) {
+            buildAlias(field);
+        }
+        else if (field instanceof Section section) {
+            buildSection(section);
+        }
+        else if (field instanceof Sequence sequence) {
+            buildSequence(sequence);
+        }
+        else {
+            buildScalar((Scalar) field);
+        }
+    }
+
+    private void buildAlias(Field field) {
+        AliasEvent event = (AliasEvent) parser.next();
+        Anchor anchor = event.getAlias();
+        Object anchored = anchors.get(anchor);
+        if (!(anchored instanceof AnchoredScalar)) {
+            if (openAnchors.contains(anchor)) {
+                throw new ComposerException("found recursive alias " + anchor, event.getStartMark());
+            }
+            nonScalarAliasesCount++;
+            if (nonScalarAliasesCount > settings.getMaxAliasesForCollections()) {
+                throw new YamlEngineException("Number of aliases for non-scalar nodes exceeds the specified max="
+                        + settings.getMaxAliasesForCollections());
+            }
+        }
+
+        // Comments next to an alias are dropped, same as the composer does
+        blockCommentsCollector.consume();
+        inlineCommentsCollector.collectEvents().consume();
+
+        if (anchored instanceof AnchoredScalar scalar) {
+            scalar.copyTo((Scalar) field);
+        }
+        else {
+            copy((Field) anchored, field);
+        }
+    }
+
+    private void buildScalar(Scalar scalar) {
+        List<CommentLine> blockComments = blockCommentsCollector.consume();
+        ScalarEvent event = (ScalarEvent) parser.next();
+        AnchoredScalar anchoredScalar = new AnchoredScalar(event.getValue(), resolveTag(event), blockComments,
+                inlineCommentsCollector.collectEvents().consume());
+        event.getAnchor().ifPresent(anchor -> anchors.put(anchor, anchoredScalar));
+        anchoredScalar.copyTo(scalar);
+    }
+
+    private void buildSequence(Sequence sequence) {
+        SequenceStartEvent startEvent = (SequenceStartEvent) parser.next();
+        List<CommentLine> blockComments = startEvent.isFlow() ? blockCommentsCollector.consume() : null;
+        Optional<Anchor> anchor = startEvent.getAnchor();
+        anchor.ifPresent(value -> {
+            anchors.put(value, sequence);
+            openAnchors.add(value);
+        });
+
+        while (!parser.checkEvent(Event.ID.SequenceEnd)) {
+            blockCommentsCollector.collectEvents();
+            if (parser.checkEvent(Event.ID.SequenceEnd)) {
+                break;
+            }
+            buildField(addKeylessField(sequence, peekFieldType()));
+        }
+
+        List<CommentLine> inLineComments = null;
+        if (startEvent.isFlow()) {
+            inLineComments = inlineCommentsCollector.collectEvents().consume();
+        }
+        parser.next();
+        inlineCommentsCollector.collectEvents();
+        if (!inlineCommentsCollector.isEmpty()) {
+            inLineComments = inlineCommentsCollector.consume();
+        }
+
+        anchor.ifPresent(openAnchors::remove);
+        sequence.setInLineComments(inLineComments);
+        sequence.setBlockComments(blockComments);
+        sequence.packNumbers();
+    }
+
+    private void buildSection(Section section) {
+        MappingStartEvent startEvent = (MappingStartEvent) parser.next();
+        List<CommentLine> blockComments = startEvent.isFlow() ? blockCommentsCollector.consume() : null;
+        Optional<Anchor> anchor = startEvent.getAnchor();
+        anchor.ifPresent(value -> {
+            anchors.put(value, section);
+            openAnchors.add(value);
+        });
+
+        List<Field> merges = null;
+        while (!parser.checkEvent(Event.ID.MappingEnd)) {
+            blockCommentsCollector.collectEvents();
+            if (parser.checkEvent(Event.ID.MappingEnd)) {
+                break;
+            }
+
+            AnchoredScalar key = buildKey();
+            blockCommentsCollector.collectEvents();
+            FieldType valueType = peekFieldType();
+
+            if (key.tag().equals(Tag.MERGE)) {
+                Field merge = valueType == FieldType.SEQUENCE ? new KeyedSequence(section, key.value()) : new KeyedSection(section, key.value());
+                buildField(merge);
+                if (merges == null) {
+                    merges = new ArrayList<>(2);
+                }
+                merges.add(merge);
+                continue;
+            }
+
+            Field value = addKeyedField(section, key.value(), valueType);
+            buildField(value);
+            if (value instanceof KeyedField keyedField) {
+                ConfigScalar keyScalar = keyedField.getKeyScalar();
+                keyScalar.setBlockComments(key.blockComments());
+                keyScalar.setInLineComments(key.inLineComments());
+            }
+        }
+
+        List<CommentLine> inLineComments = null;
+        if (startEvent.isFlow()) {
+            inLineComments = inlineCommentsCollector.collectEvents().consume();
+        }
+        Event endEvent = parser.next();
+        inlineCommentsCollector.collectEvents();
+        if (!inlineCommentsCollector.isEmpty()) {
+            inLineComments = inlineCommentsCollector.consume();
+        }
+
+        if (merges != null) {
+            for (Field merge : merges) {
+                merge(section, merge, endEvent);
+            }
+        }
+
+        anchor.ifPresent(openAnchors::remove);
+        section.setInLineComments(inLineComments);
+        section.setBlockComments(blockComments);
+    }
+
+    private AnchoredScalar buildKey() {
+        blockCommentsCollector.collectEvents();
+        if (parser.checkEvent(Event.ID.Alias)) {
+            AliasEvent event = (AliasEvent) parser.next();
+            Object anchored = anchors.get(event.getAlias());
+            if (anchored == null) {
+                throw new ComposerException("found undefined alias " + event.getAlias(), event.getStartMark());
+            }
+            blockCommentsCollector.consume();
+            inlineCommentsCollector.collectEvents().consume();
+            if (anchored instanceof AnchoredScalar scalar) {
+                return scalar;
+            }
+        }
+        else if (parser.checkEvent(Event.ID.Scalar)) {
+            List<CommentLine> blockComments = blockCommentsCollector.consume();
+            ScalarEvent event = (ScalarEvent) parser.next();
+            AnchoredScalar key = new AnchoredScalar(event.getValue(), resolveTag(event), blockComments,
+                    inlineCommentsCollector.collectEvents().consume());
+            event.getAnchor().ifPresent(anchor -> anchors.put(anchor, key));
+            return key;
+        }
+        throw new YamlEngineException("Non scalar key is detected but it is not configured to be allowed.");
+    }
+
+    private void merge(Section section, Field merge, Event endEvent) {
+        if (merge instanceof Sequence sequence) {
+            for (KeylessField element : sequence) {
+                merge(section, (Field) element, endEvent);
+            }
+            return;
+        }
+
+        if (!(merge instanceof Section mergeSection)) {
+            throw new ComposerException("Expected mapping node or an anchor referencing mapping", endEvent.getStartMark());
+        }
+
+        for (KeyedField field : mergeSection) {
+            if (section.getNode(field.getKey()) == null) {
+                copyKeyedField((Field) field, section);
+            }
+        }
+    }
+
+    private Tag resolveTag(ScalarEvent event) {
+        Optional<String> tag = event.getTag();
+        if (tag.isEmpty() || tag.get().equals("!")) {
+            return scalarResolver.resolve(event.getValue(), event.getImplicit().canOmitTagInPlainScalar());
+        }
+        return new Tag(tag.get());
+    }
+
+    // Keys may be paths, only plain keys that are not set yet can skip the path lookup
+    private static Field addKeyedField(Section section, String key, FieldType type) {
+        if (isPlainKey(key) && section.getNode(key) == null) {
+            Field field = switch (type) {
+                case SCALAR -> new KeyedScalar(section, key, "");
+                case SECTION -> new KeyedSection(section, key);
+                case SEQUENCE -> new KeyedSequence(section, key);
+            };
+            section.addNode((KeyedField) field);
+            return field;
+        }
+
+        ConfigPath path = ConfigPath.parse(key);
+        Field field = (Field) switch (type) {
+            case SCALAR -> section.getScalarOrCreate(path);
+            case SECTION -> section.getSectionOrCreate(path);
+            case SEQUENCE -> section.getSequenceOrCreate(path);
+        };
+        field.clear();
+        return field;
+    }
+
+    private static Field addKeylessField(Sequence sequence, FieldType type) {
+        return (Field) switch (type) {
+            case SCALAR -> sequence.addEmptyScalar();
+            case SECTION -> sequence.addEmptySection();
+            case SEQUENCE -> sequence.addEmptySequence();
+        };
+    }
+
+    private static boolean isPlainKey(String key) {
+        if (key.isBlank()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '.' || c == '|' || c == '[') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static FieldType typeOf(Field field) {
+        if (field instanceof Section) {
+            return FieldType.SECTION;
+        }
+        return field instanceof Sequence ? FieldType.SEQUENCE : FieldType.SCALAR;
+    }
+
+    /**
+     * Copies the source field into the target, fields of a section are added with the same rules as a document key.
+     */
+    public static void copy(@NotNull Field source, @NotNull Field target) {
+        if (source instanceof Section sourceSection) {
+            Section targetSection = (Section) target;
+            for (KeyedField field : sourceSection) {
+                copyKeyedField((Field) field, targetSection);
+            }
+        }
+        else if (source instanceof Sequence sourceSequence) {
+            Sequence targetSequence = (Sequence) target;
+            for (KeylessField field : sourceSequence) {
+                copy((Field) field, addKeylessField(targetSequence, typeOf((Field) field)));
+            }
+        }
+        else {
+            ((Scalar) target).setValue(((Scalar) source).getValue());
+        }
+        target.setBlockComments(source.getBlockComments());
+        target.setInLineComments(source.getInLineComments());
+    }
+
+    private static void copyKeyedField(Field field, Section target) {
+        KeyedField keyedField = (KeyedField) field;
+        Field copy = addKeyedField(target, keyedField.getKey(), typeOf(field));
+        copy(field, copy);
+        if (copy instanceof KeyedField keyedCopy) {
+            ConfigScalar sourceKey = keyedField.getKeyScalar();
+            ConfigScalar targetKey = keyedCopy.getKeyScalar();
+            targetKey.setBlockComments(sourceKey.getBlockComments());
+            targetKey.setInLineComments(sourceKey.getInLineComments());
+        }
+    }
+
+    private record AnchoredScalar(String value, Tag tag, List<CommentLine> blockComments, List<CommentLine> inLineComments) {
+
+        private void copyTo(Scalar scalar) {
+            scalar.setValue(ParseUtil.parseAsScalar(tag, value));
+            scalar.setBlockComments(blockComments);
+            scalar.setInLineComments(inLineComments);
+        }
+
+    }
+
+}
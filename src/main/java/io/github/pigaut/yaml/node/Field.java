@@ -10,8 +10,10 @@ import java.util.*;
 
 public abstract class Field implements ConfigField {
 
-    private List<CommentLine> blockComments = new ArrayList<>();
-    private List<CommentLine> inLineComments = new ArrayList<>();
+    // Most fields have no comments, so they share an empty list until the first comment is added.
+    // The lists are only modified through the methods of this field, their getters return unmodifiable views
+    private List<CommentLine> blockComments = List.of();
+    private List<CommentLine> inLineComments = List.of();
 
     @NotNull
     public abstract Branch getParent() throws UnsupportedOperationException;
@@ -74,6 +76,21 @@ public abstract class Field implements ConfigField {
         return String.join(".", keys);
     }
 
+    /**
+     * Switches this field to immutable storage, values found in the given map are replaced by the instance it holds.
+     * Used by {@link ConfigRoot#freeze()} on the fields of a frozen copy.
+     */
+    public void freezeNode(@NotNull Map<Object, Object> canonicalValues) {
+        blockComments = blockComments.isEmpty() ? List.of() : List.copyOf(blockComments);
+        inLineComments = inLineComments.isEmpty() ? List.of() : List.copyOf(inLineComments);
+    }
+
+    protected void checkMutable() {
+        if (getRoot().isFrozen()) {
+            throw new UnsupportedOperationException("Configuration is frozen");
+        }
+    }
+
     @Override
     public <T> T getRequired(@NotNull Class<T> classType) throws InvalidConfigException {
         return get(classType).orThrow();
@@ -81,47 +98,83 @@ public abstract class Field implements ConfigField {
 
     @Override
     public List<CommentLine> getInLineComments() {
-        return inLineComments;
+        return inLineComments instanceof ArrayList ? Collections.unmodifiableList(inLineComments) : inLineComments;
     }
 
     @Override
     public void setInLineComments(@Nullable List<CommentLine> inLineComments) {
-        this.inLineComments = inLineComments != null ? new ArrayList<>(inLineComments) : new ArrayList<>();
+        checkMutable();
+        this.inLineComments = copyComments(inLineComments);
     }
 
     @Override
     public void clearInlineComments() {
-        inLineComments.clear();
+        checkMutable();
+        inLineComments = List.of();
     }
 
     @Override
     public void addInlineComment(@NotNull String value) {
-        inLineComments.add(new CommentLine(Optional.empty(), Optional.empty(), value, CommentType.IN_LINE));
+        checkMutable();
+        mutableInLineComments().add(new CommentLine(Optional.empty(), Optional.empty(), value, CommentType.IN_LINE));
     }
 
     @Override
     public List<CommentLine> getBlockComments() {
-        return blockComments;
+        return blockComments instanceof ArrayList ? Collections.unmodifiableList(blockComments) : blockComments;
     }
 
     @Override
     public void setBlockComments(@Nullable List<CommentLine> blockComments) {
-        this.blockComments = blockComments != null ? new ArrayList<>(blockComments) : new ArrayList<>();
+        checkMutable();
+        this.blockComments = copyComments(blockComments);
     }
 
     @Override
     public void clearBlockComments() {
-        blockComments.clear();
+        checkMutable();
+        blockComments = List.of();
     }
 
     @Override
     public void addBlockComment(@NotNull String value) {
-        blockComments.add(new CommentLine(Optional.empty(), Optional.empty(), value, CommentType.BLOCK));
+        checkMutable();
+        mutableBlockComments().add(new CommentLine(Optional.empty(), Optional.empty(), value, CommentType.BLOCK));
     }
 
     @Override
     public void addBlockBlankLine() {
-        blockComments.add(new CommentLine(Optional.empty(), Optional.empty(), "", CommentType.BLANK_LINE));
+        checkMutable();
+        mutableBlockComments().add(new CommentLine(Optional.empty(), Optional.empty(), "", CommentType.BLANK_LINE));
+    }
+
+    private List<CommentLine> mutableInLineComments() {
+        if (!(inLineComments instanceof ArrayList)) {
+            inLineComments = new ArrayList<>(inLineComments);
+        }
+        return inLineComments;
+    }
+
+    private List<CommentLine> mutableBlockComments() {
+        if (!(blockComments instanceof ArrayList)) {
+            blockComments = new ArrayList<>(blockComments);
+        }
+        return blockComments;
+    }
+
+    // Marks of parsed comments point into the buffers of the reader, they are dropped so the buffers can be collected
+    private static List<CommentLine> copyComments(@Nullable List<CommentLine> comments) {
+        if (comments == null || comments.isEmpty()) {
+            return List.of();
+        }
+        List<CommentLine> copy = new ArrayList<>(comments.size());
+        for (CommentLine comment : comments) {
+            if (comment.getStartMark().isPresent() || comment.getEndMark().isPresent()) {
+                comment = new CommentLine(Optional.empty(), Optional.empty(), comment.getValue(), comment.getCommentType());
+            }
+            copy.add(comment);
+        }
+        return copy;
     }
 
 }
@@ -0,0 +1,192 @@
+package io.github.pigaut.yaml.node;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.section.*;
+import io.github.pigaut.yaml.node.sequence.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * Maps the full path of every field of a root section, such as {@code "menus.main.items[2].name"}, to the field,
+ * so that a lookup from the root is a single hash probe. The sections and sequences of the root keep it up to date
+ * as fields are added, removed and renamed. Fields with a key that cannot be written in a path are not indexed,
+ * nor are the fields inside them.
+ * <p>
+ * Each indexed field costs a map entry and its path string, around 100 bytes per field for paths of typical length.
+ * Lookups that miss the index, and lookups with alternative keys, walk the path as usual.
+ */
+public class PathIndex {
+
+    private final Map<String, Field> fieldsByPath;
+
+    public PathIndex() {
+        this.fieldsByPath = new HashMap<>();
+    }
+
+    public PathIndex(@NotNull PathIndex source) {
+        this.fieldsByPath = new HashMap<>(source.fieldsByPath);
+    }
+
+    public static @Nullable PathIndex of(@NotNull ConfigRoot root) {
+        return root instanceof RootSection rootSection ? rootSection.getPathIndex() : null;
+    }
+
+    public @Nullable Field get(@NotNull String path) {
+        return fieldsByPath.get(path);
+    }
+
+    public int size() {
+        return fieldsByPath.size();
+    }
+
+    public void addField(@NotNull Section parent, @NotNull Field field, @NotNull String key) {
+        String path = keyedPath(pathOf(parent), key);
+        if (path != null) {
+            add(path, field);
+        }
+    }
+
+    public void removeField(@NotNull Section parent, @NotNull Field field, @NotNull String key) {
+        String path = keyedPath(pathOf(parent), key);
+        if (path != null) {
+            remove(path, field);
+        }
+    }
+
+    public void addField(@NotNull Sequence parent, @NotNull Field field, int index) {
+        String path = pathOf(parent);
+        if (path != null) {
+            add(indexedPath(path, index), field);
+        }
+    }
+
+    public void removeField(@NotNull Sequence parent, @NotNull Field field, int index) {
+        String path = pathOf(parent);
+        if (path != null) {
+            remove(indexedPath(path, index), field);
+        }
+    }
+
+    // A field replaced by a copy that holds the same fields only changes the entry of its own path
+    public void replaceField(@NotNull Section parent, @NotNull Field field, @NotNull String key) {
+        String path = keyedPath(pathOf(parent), key);
+        if (path != null) {
+            fieldsByPath.put(path, field);
+        }
+    }
+
+    public void replaceField(@NotNull Sequence parent, @NotNull Field field, int index) {
+        String path = pathOf(parent);
+        if (path != null) {
+            fieldsByPath.put(indexedPath(path, index), field);
+        }
+    }
+
+    public void addChildren(@NotNull Branch branch) {
+        String path = pathOf(branch);
+        if (path != null) {
+            addChildren(path, branch);
+        }
+    }
+
+    public void removeChildren(@NotNull Branch branch) {
+        String path = pathOf(branch);
+        if (path != null) {
+            removeChildren(path, branch);
+        }
+    }
+
+    public void clear() {
+        fieldsByPath.clear();
+    }
+
+    private void add(String path, Field field) {
+        fieldsByPath.put(path, field);
+        if (field instanceof Branch branch) {
+            addChildren(path, branch);
+        }
+    }
+
+    private void addChildren(String path, Branch branch) {
+        if (branch instanceof Section section) {
+            for (KeyedField child : section) {
+                String childPath = keyedPath(path, child.getKey());
+                if (childPath != null) {
+                    add(childPath, (Field) child);
+                }
+            }
+        }
+        else if (branch instanceof Sequence sequence) {
+            for (int i = 0; i < sequence.size(); i++) {
+                add(indexedPath(path, i), (Field) sequence.getNode(i));
+            }
+        }
+    }
+
+    private void remove(String path, Field field) {
+        fieldsByPath.remove(path, field);
+        if (field instanceof Branch branch) {
+            removeChildren(path, branch);
+        }
+    }
+
+    private void removeChildren(String path, Branch branch) {
+        if (branch instanceof Section section) {
+            for (KeyedField child : section) {
+                String childPath = keyedPath(path, child.getKey());
+                if (childPath != null) {
+                    remove(childPath, (Field) child);
+                }
+            }
+        }
+        else if (branch instanceof Sequence sequence) {
+            for (int i = 0; i < sequence.size(); i++) {
+                remove(indexedPath(path, i), (Field) sequence.getNode(i));
+            }
+        }
+    }
+
+    // Fields that have not been added to their parent yet, or that sit inside a key that cannot be indexed, have no path
+    private static @Nullable String pathOf(Field field) {
+        if (field.isRoot()) {
+            return "";
+        }
+        Branch parent = field.getParent();
+        String parentPath = pathOf(parent);
+        if (parentPath == null) {
+            return null;
+        }
+        if (field instanceof KeylessField keylessField) {
+            int index = keylessField.getIndex();
+            return ((Sequence) parent).getNode(index) == field ? indexedPath(parentPath, index) : null;
+        }
+        String key = field.getKey();
+        return ((Section) parent).getNode(key) == field ? keyedPath(parentPath, key) : null;
+    }
+
+    private static @Nullable String keyedPath(@Nullable String parentPath, String key) {
+        if (parentPath == null || !isPlainKey(key)) {
+            return null;
+        }
+        return parentPath.isEmpty() ? key : parentPath + '.' + key;
+    }
+
+    private static String indexedPath(String parentPath, int index) {
+        return parentPath + '[' + index + ']';
+    }
+
+    private static boolean isPlainKey(String key) {
+        if (key.isBlank()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c == '.' || c == '|' || c == '[' || c == ']') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -3,7 +3,6 @@ package io.github.pigaut.yaml.node.line;
 import io.github.pigaut.yaml.*;
 import io.github.pigaut.yaml.configurator.*;
 import io.github.pigaut.yaml.convert.format.*;
-import io.github.pigaut.yaml.convert.parse.*;
 import io.github.pigaut.yaml.node.*;
 import io.github.pigaut.yaml.node.line.scalar.*;
 import io.github.pigaut.yaml.util.*;
@@ -15,13 +14,18 @@ import java.util.*;
 public class Line implements ConfigLine {
 
     private final ConfigScalar scalar;
-    private final List<ConfigScalar> values = new ArrayList<>();
-    private final Map<String, ConfigScalar> valuesByKey = new LinkedHashMap<>();
     private final LineStyle lineStyle;
+    private final @Nullable LineCache lineCache;
+    private String line;
+    // The line is tokenized when it is first read, and scalars are only created for the values and flags that are read
+    private @Nullable LineTokens tokens = null;
+    private ConfigScalar[] valueScalars = null;
+    private ConfigScalar[] flagScalars = null;
 
     public Line(@NotNull ConfigScalar scalar, LineStyle lineStyle) {
         this.scalar = scalar;
         this.lineStyle = lineStyle;
+        this.lineCache = scalar.getRoot().getConfigurator().getLineCache();
         updateLine(scalar.toString());
     }
 
@@ -157,28 +161,28 @@ public class Line implements ConfigLine {
 
     @Override
     public boolean hasFlag(@NotNull String key) {
-        String[] aliases = key.split("\\|");
-        for (String alias : aliases) {
-            if (valuesByKey.containsKey(alias)) {
-                return true;
-            }
-        }
-        return false;
+        return getTokens().findFlag(key) != -1;
     }
 
     @Override
     public int size() {
-        return values.size();
+        return getTokens().valueCount();
     }
 
     @Override
     public int flagCount() {
-        return valuesByKey.size();
+        return getTokens().flagCount();
     }
 
     @Override
     public Map<String, ConfigScalar> getAllFlags() {
-        return new HashMap<>(valuesByKey);
+        LineTokens tokens = getTokens();
+        Map<String, ConfigScalar> flags = new HashMap<>();
+        for (int i = 0; i < tokens.flagCount(); i++) {
+            ConfigScalar flagScalar = getFlagScalar(i);
+            flags.put(flagScalar.getKey(), flagScalar);
+        }
+        return flags;
     }
 
     @Override
@@ -206,10 +210,10 @@ public class Line implements ConfigLine {
     public void set(int index, Object value) {
         Preconditions.checkNotNull(value, "Value cannot be null");
         Preconditions.checkArgument(YamlConfig.isScalarType(value.getClass()), "Value is not a scalar");
-        if (index < 0 || index >= values.size()) {
+        if (index < 0 || index >= size()) {
             throw new IndexOutOfBoundsException(index);
         }
-        values.set(index, new KeylessLineScalar(this, index, value));
+        getValueScalars()[index] = new KeylessLineScalar(this, index, value);
     }
 
     @Override
@@ -217,16 +221,19 @@ public class Line implements ConfigLine {
         Preconditions.checkNotNull(value, "Value cannot be null");
         Preconditions.checkArgument(YamlConfig.isScalarType(value.getClass()), "Value is not a scalar");
 
-        String[] aliases = key.split("\\|");
-        for (String alias : aliases) {
-            if (valuesByKey.containsKey(alias)) {
-                valuesByKey.put(alias, new KeyedLineScalar(this, alias, value));
-                return;
-            }
+        LineTokens tokens = getTokens();
+        int flag = tokens.findFlag(key);
+        if (flag != -1) {
+            getFlagScalars()[flag] = new KeyedLineScalar(this, tokens.getKey(flag), value);
+            return;
         }
 
-        String primary = aliases[0];
-        valuesByKey.put(primary, new KeyedLineScalar(this, primary, value));
+        // The tokens may be shared with other lines, so the new flag is added to a copy
+        String primary = LineTokens.getPrimaryAlias(key);
+        ConfigScalar[] flagScalars = getFlagScalars();
+        this.tokens = tokens.withFlag(primary);
+        this.flagScalars = Arrays.copyOf(flagScalars, flagScalars.length + 1);
+        this.flagScalars[flagScalars.length] = new KeyedLineScalar(this, primary, value);
     }
 
     @Override
@@ -252,8 +259,8 @@ public class Line implements ConfigLine {
     @Override
     public <T> ConfigList<T> getAll(int startIndex, @NotNull Class<T> classType) {
         List<T> elements = new ArrayList<>();
-        for (int i = startIndex; i < values.size(); i++) {
-            ConfigScalar scalar = values.get(i);
+        for (int i = startIndex; i < size(); i++) {
+            ConfigScalar scalar = getValueScalar(i);
             try {
                 elements.add(scalar.getRequired(classType));
             } catch (InvalidConfigException e) {
@@ -271,8 +278,8 @@ public class Line implements ConfigLine {
     @Override
     public <T> List<T> getAllRequired(int startIndex, @NotNull Class<T> classType) throws InvalidConfigException {
         List<T> elements = new ArrayList<>();
-        for (int i = startIndex; i < values.size(); i++) {
-            ConfigScalar scalar = values.get(i);
+        for (int i = startIndex; i < size(); i++) {
+            ConfigScalar scalar = getValueScalar(i);
             elements.add(scalar.getRequired(classType));
         }
         return elements;
@@ -284,13 +291,11 @@ public class Line implements ConfigLine {
     }
 
     private ConfigOptional<ConfigScalar> getScalar(String flag) {
-        String[] aliases = flag.split("\\|");
-        for (String alias : aliases) {
-            if (valuesByKey.containsKey(alias)) {
-                return ConfigOptional.of(valuesByKey.get(alias));
-            }
+        int index = getTokens().findFlag(flag);
+        if (index != -1) {
+            return ConfigOptional.of(getFlagScalar(index));
         }
-        return ConfigOptional.notSet(this, "Missing a value with flag: " + aliases[0]);
+        return ConfigOptional.notSet(this, "Missing a value with flag: " + LineTokens.getPrimaryAlias(flag));
     }
 
     private ConfigOptional<ConfigScalar> getScalar(int index) {
@@ -298,8 +303,8 @@ public class Line implements ConfigLine {
             throw new IndexOutOfBoundsException(index);
         }
 
-        if (index < values.size()) {
-            return ConfigOptional.of(this, values.get(index));
+        if (index < size()) {
+            return ConfigOptional.of(this, getValueScalar(index));
         }
 
         return ConfigOptional.notSet(this, "Missing a value at position: " + (index + 1));
@@ -470,167 +475,67 @@ public class Line implements ConfigLine {
         return getScalar(key).flatMap(ConfigScalar::toDouble);
     }
 
-    private record Token(String raw, TokenType type) {}
-
-    enum TokenType {
-        VALUE,
-        KEY_VALUE
+    public void updateLine(String line) {
+        this.line = line != null ? line : "";
+        tokens = null;
+        valueScalars = null;
+        flagScalars = null;
     }
 
-    private List<Token> tokenize(String line) {
-        if (line == null || line.isEmpty()) {
-            return List.of();
-        }
-
-        if (lineStyle == LineStyle.SPACED) {
-            return tokenizeSpaced(line);
-        }
-
-        List<Token> parts = new ArrayList<>();
-
-        StringBuilder current = new StringBuilder();
-        char[] chars = line.toCharArray();
-
-        boolean foundLabel = lineStyle != LineStyle.LABELED;
-        for (int i = 0; i < chars.length; i++) {
-            char c = chars[i];
-
-            // Check escaped comma
-            if (c == ',' && i + 1 < chars.length && chars[i + 1] == ',') {
-                current.append(',');
-                i++;
-                continue;
-            }
-
-            // Commas separate standard VALUEs
-            if (c == ',') {
-                parts.add(new Token(current.toString(), TokenType.VALUE));
-                current.setLength(0);
-
-                if (i + 1 < chars.length && chars[i + 1] == ' ') {
-                    i++;
-                }
-                continue;
-            }
-
-            if (c == ' ' && !foundLabel) {
-                String finalRaw = current.toString();
-                parts.add(new Token(finalRaw, TokenType.VALUE));
-                current.setLength(0);
-                foundLabel = true;
-                continue;
-            }
-
-            if (c == ' ' && isNextTokenAFlag(chars, i + 1)) {
-                String finalRaw = current.toString();
-                TokenType finalType = finalRaw.contains("=") && !finalRaw.contains("==")
-                        ? TokenType.KEY_VALUE
-                        : TokenType.VALUE;
-                parts.add(new Token(finalRaw, finalType));
-                current.setLength(0);
-                continue;
-            }
-
-            current.append(c);
-        }
-
-        if (!current.isEmpty()) {
-            String finalRaw = current.toString();
-            TokenType finalType = finalRaw.contains("=") && !finalRaw.contains("==")
-                    ? TokenType.KEY_VALUE
-                    : TokenType.VALUE;
-            parts.add(new Token(finalRaw, finalType));
+    private LineTokens getTokens() {
+        if (tokens == null) {
+            tokens = lineCache != null ? lineCache.get(line, lineStyle) : new LineTokens(line, lineStyle);
         }
-
-        return parts;
+        return tokens;
     }
 
-    private static List<Token> tokenizeSpaced(String line) {
-        List<Token> parts = new ArrayList<>();
-        StringBuilder current = new StringBuilder();
-
-        for (char c : line.toCharArray()) {
-            if (c == ' ') {
-                if (!current.isEmpty()) {
-                    parts.add(toToken(current.toString()));
-                    current.setLength(0);
-                }
-                continue;
-            }
-            current.append(c);
-        }
-
-        if (!current.isEmpty()) {
-            parts.add(toToken(current.toString()));
+    private ConfigScalar[] getValueScalars() {
+        if (valueScalars == null) {
+            valueScalars = new ConfigScalar[getTokens().valueCount()];
         }
-
-        return parts;
+        return valueScalars;
     }
 
-    private static Token toToken(String raw) {
-        TokenType type = raw.contains("=") && !raw.contains("==")
-                ? TokenType.KEY_VALUE
-                : TokenType.VALUE;
-        return new Token(raw, type);
+    private ConfigScalar[] getFlagScalars() {
+        if (flagScalars == null) {
+            flagScalars = new ConfigScalar[getTokens().flagCount()];
+        }
+        return flagScalars;
     }
 
-    private static boolean isNextTokenAFlag(char[] chars, int start) {
-        for (int j = start; j < chars.length; j++) {
-            if (chars[j] == ' ') return false; // Found another space before an '='
-            if (chars[j] == '=') {
-                // Ensure it's '=' and not '=='
-                boolean notEscaped = (j + 1 >= chars.length || chars[j + 1] != '=');
-                return notEscaped;
-            }
+    private ConfigScalar getValueScalar(int index) {
+        ConfigScalar[] valueScalars = getValueScalars();
+        ConfigScalar valueScalar = valueScalars[index];
+        if (valueScalar == null) {
+            valueScalar = new KeylessLineScalar(this, index, tokens.parseValue(index));
+            valueScalars[index] = valueScalar;
         }
-        return false;
+        return valueScalar;
     }
 
-    private static final String SPLIT_LINE = "\u001F";
-
-    public void updateLine(String line) {
-        values.clear();
-        valuesByKey.clear();
-
-        List<Token> tokens = tokenize(line);
-        for (Token token : tokens) {
-            switch (token.type()) {
-                case KEY_VALUE -> {
-                    String raw = token.raw();
-
-                    int separatorIndex = raw.indexOf('=');
-                    String key = raw.substring(0, separatorIndex);
-                    String value = raw.substring(separatorIndex + 1);
-
-                    Object parsedValue = ParseUtil.parseAsScalar(value);
-                    ConfigScalar existingScalar = getScalar(key).orElse(null);
-                    if (existingScalar != null) {
-                        parsedValue = existingScalar.getValue() + SPLIT_LINE + parsedValue;
-                    }
-
-                    valuesByKey.put(key, new KeyedLineScalar(this, key, parsedValue));
-                }
-
-                case VALUE -> {
-                    Object value = ParseUtil.parseAsScalar(token.raw());
-                    values.add(new KeylessLineScalar(this, values.size(), value));
-                }
-            }
+    private ConfigScalar getFlagScalar(int flag) {
+        ConfigScalar[] flagScalars = getFlagScalars();
+        ConfigScalar flagScalar = flagScalars[flag];
+        if (flagScalar == null) {
+            flagScalar = new KeyedLineScalar(this, tokens.getKey(flag), tokens.parseFlag(flag));
+            flagScalars[flag] = flagScalar;
         }
+        return flagScalar;
     }
 
     @Override
     public @NotNull String toString() {
         StringJoiner valueJoiner = new StringJoiner(", ");
-        for (Object value : values) {
-            valueJoiner.add(value.toString());
+        for (int i = 0; i < size(); i++) {
+            valueJoiner.add(getValueScalar(i).toString());
         }
 
         StringJoiner flagJoiner = new StringJoiner(" ");
         flagJoiner.add(valueJoiner.toString());
 
-        for (Map.Entry<String, ConfigScalar> parameter : valuesByKey.entrySet()) {
-            valueJoiner.add(parameter.getKey() + "=" + parameter.getValue().toString());
+        for (int i = 0; i < flagCount(); i++) {
+            ConfigScalar flagScalar = getFlagScalar(i);
+            valueJoiner.add(flagScalar.getKey() + "=" + flagScalar.toString());
         }
 
         return flagJoiner.toString();
@@ -639,7 +544,22 @@ public class Line implements ConfigLine {
     @NotNull
     @Override
     public Iterator<ConfigScalar> iterator() {
-        return values.iterator();
+        return new Iterator<>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size();
+            }
+
+            @Override
+            public ConfigScalar next() {
+                if (next >= size()) {
+                    throw new NoSuchElementException();
+                }
+                return getValueScalar(next++);
+            }
+        };
     }
 
 }
@@ -0,0 +1,53 @@
+package io.github.pigaut.yaml.node.line;
+
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * The tokens of recently read lines, shared by every line with the same content and style so a line that is
+ * repeated across a configuration is only tokenized and parsed once. The least recently used lines are evicted
+ * once the cache is full. A line that gets a new flag copies its tokens before changing them.
+ */
+public class LineCache {
+
+    private final int maxSize;
+    private final Map<Key, LineTokens> tokensByLine;
+
+    public LineCache(int maxSize) {
+        Preconditions.checkArgument(maxSize > 0, "Cache size must be positive");
+        this.maxSize = maxSize;
+        this.tokensByLine = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, LineTokens> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public synchronized int size() {
+        return tokensByLine.size();
+    }
+
+    public synchronized void clear() {
+        tokensByLine.clear();
+    }
+
+    synchronized @NotNull LineTokens get(@NotNull String line, @NotNull LineStyle lineStyle) {
+        Key key = new Key(line, lineStyle);
+        LineTokens tokens = tokensByLine.get(key);
+        if (tokens == null) {
+            tokens = new LineTokens(line, lineStyle);
+            tokensByLine.put(key, tokens);
+        }
+        return tokens;
+    }
+
+    private record Key(String line, LineStyle lineStyle) {}
+
+}
@@ -0,0 +1,329 @@
+package io.github.pigaut.yaml.node.line;
+
+import io.github.pigaut.yaml.convert.parse.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * The values and flags of a line, kept as offsets into the line. Values are only copied and parsed when they are
+ * read, and flags are found by comparing their keys with regions of the line, so looking up a flag does not allocate.
+ * A flag that is repeated in the line has the values of every occurrence joined by {@link #SPLIT_LINE}.
+ * Tokens are not modified once the line is tokenized, so they can be shared by every line with the same content,
+ * see {@link LineCache}. Parsed values are immutable and kept once parsed, two threads that parse the same value
+ * at once may both store it, and either result is equal.
+ */
+class LineTokens {
+
+    static final String SPLIT_LINE = "\u001F";
+
+    private static final int[] NO_OFFSETS = {};
+
+    private final String line;
+    private final boolean escapedCommas;
+
+    // Start and end of each value
+    private int[] values = NO_OFFSETS;
+    private int valueCount = 0;
+
+    // Start and end of the value of each key=value token, and the token the value is joined to or -1
+    private int[] flagValues = NO_OFFSETS;
+    private int[] previousTokens = NO_OFFSETS;
+    private int flagTokenCount = 0;
+
+    // Start and end of each distinct key and its last token, keys that are not a region of the line are kept as strings
+    private int[] keys = NO_OFFSETS;
+    private int[] lastTokens = NO_OFFSETS;
+    private String[] keyStrings = null;
+    private int flagCount = 0;
+
+    private final Object[] parsedValues;
+    private final Object[] parsedFlags;
+    private final String[] keyNames;
+
+    LineTokens(@NotNull String line, @NotNull LineStyle lineStyle) {
+        this.line = line;
+        this.escapedCommas = lineStyle != LineStyle.SPACED;
+        if (lineStyle == LineStyle.SPACED) {
+            tokenizeSpaced();
+        }
+        else {
+            tokenize(lineStyle == LineStyle.LABELED);
+        }
+        this.parsedValues = new Object[valueCount];
+        this.parsedFlags = new Object[flagCount];
+        this.keyNames = new String[flagCount];
+    }
+
+    private LineTokens(LineTokens tokens) {
+        this.line = tokens.line;
+        this.escapedCommas = tokens.escapedCommas;
+        this.values = tokens.values;
+        this.valueCount = tokens.valueCount;
+        this.flagValues = tokens.flagValues;
+        this.previousTokens = tokens.previousTokens;
+        this.flagTokenCount = tokens.flagTokenCount;
+        this.keys = tokens.keys.clone();
+        this.lastTokens = tokens.lastTokens.clone();
+        this.keyStrings = tokens.keyStrings != null ? tokens.keyStrings.clone() : null;
+        this.flagCount = tokens.flagCount;
+        this.parsedValues = tokens.parsedValues;
+        this.parsedFlags = tokens.parsedFlags;
+        this.keyNames = tokens.keyNames;
+    }
+
+    int valueCount() {
+        return valueCount;
+    }
+
+    int flagCount() {
+        return flagCount;
+    }
+
+    @NotNull Object parseValue(int index) {
+        Object value = parsedValues[index];
+        if (value == null) {
+            value = ParseUtil.parseAsScalar(getText(values[index * 2], values[index * 2 + 1]));
+            parsedValues[index] = value;
+        }
+        return value;
+    }
+
+    @NotNull String getKey(int flag) {
+        if (keyStrings != null && keyStrings[flag] != null) {
+            return keyStrings[flag];
+        }
+        String key = keyNames[flag];
+        if (key == null) {
+            key = line.substring(keys[flag * 2], keys[flag * 2 + 1]);
+            keyNames[flag] = key;
+        }
+        return key;
+    }
+
+    @NotNull Object parseFlag(int flag) {
+        Object value = parsedFlags[flag];
+        if (value == null) {
+            value = parseFlagToken(lastTokens[flag]);
+            parsedFlags[flag] = value;
+        }
+        return value;
+    }
+
+    private Object parseFlagToken(int token) {
+        Object value = ParseUtil.parseAsScalar(getText(flagValues[token * 2], flagValues[token * 2 + 1]));
+        int previousToken = previousTokens[token];
+        if (previousToken == -1) {
+            return value;
+        }
+        return parseFlagToken(previousToken) + SPLIT_LINE + value;
+    }
+
+    /**
+     * Returns the flag of the first alias that is in the line, or -1. Aliases are separated by '|' and
+     * empty aliases at the end are ignored, like {@link String#split(String)}.
+     */
+    int findFlag(@NotNull String flag) {
+        return findFlag(flag, 0, flag.length());
+    }
+
+    static @NotNull String getPrimaryAlias(@NotNull String flag) {
+        int end = flag.indexOf('|');
+        return end != -1 ? flag.substring(0, end) : flag;
+    }
+
+    // A copy with a flag that is not in the line, its value is set by the line
+    @NotNull LineTokens withFlag(@NotNull String key) {
+        LineTokens tokens = new LineTokens(this);
+        int flag = tokens.newKey(0, 0, key);
+        tokens.lastTokens[flag] = -1;
+        return tokens;
+    }
+
+    private int findFlag(String text, int from, int to) {
+        if (from == to) {
+            return findKey(text, from, to);
+        }
+        while (to > from && text.charAt(to - 1) == '|') {
+            to--;
+        }
+
+        int start = from;
+        while (start < to) {
+            int end = text.indexOf('|', start);
+            if (end == -1 || end > to) {
+                end = to;
+            }
+            int flag = findKey(text, start, end);
+            if (flag != -1) {
+                return flag;
+            }
+            start = end + 1;
+        }
+        return -1;
+    }
+
+    private int findKey(String text, int from, int to) {
+        int length = to - from;
+        for (int flag = 0; flag < flagCount; flag++) {
+            String keyString = keyStrings != null ? keyStrings[flag] : null;
+            if (keyString != null) {
+                if (keyString.length() == length && keyString.regionMatches(0, text, from, length)) {
+                    return flag;
+                }
+                continue;
+            }
+            int keyStart = keys[flag * 2];
+            if (keys[flag * 2 + 1] - keyStart == length && line.regionMatches(keyStart, text, from, length)) {
+                return flag;
+            }
+        }
+        return -1;
+    }
+
+    private void tokenize(boolean labeled) {
+        int length = line.length();
+        boolean foundLabel = !labeled;
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            char c = line.charAt(i);
+
+            if (c == ',') {
+                // Escaped comma
+                if (i + 1 < length && line.charAt(i + 1) == ',') {
+                    i++;
+                    continue;
+                }
+                addValue(start, i);
+                if (i + 1 < length && line.charAt(i + 1) == ' ') {
+                    i++;
+                }
+                start = i + 1;
+            }
+            else if (c == ' ' && !foundLabel) {
+                addValue(start, i);
+                foundLabel = true;
+                start = i + 1;
+            }
+            else if (c == ' ' && isNextTokenAFlag(i + 1)) {
+                addToken(start, i);
+                start = i + 1;
+            }
+        }
+
+        if (start < length) {
+            addToken(start, length);
+        }
+    }
+
+    private void tokenizeSpaced() {
+        int length = line.length();
+        int start = 0;
+        for (int i = 0; i <= length; i++) {
+            if (i == length || line.charAt(i) == ' ') {
+                if (i > start) {
+                    addToken(start, i);
+                }
+                start = i + 1;
+            }
+        }
+    }
+
+    private boolean isNextTokenAFlag(int start) {
+        int length = line.length();
+        for (int i = start; i < length; i++) {
+            char c = line.charAt(i);
+            if (c == ' ') {
+                return false;
+            }
+            if (c == '=') {
+                return i + 1 >= length || line.charAt(i + 1) != '=';
+            }
+        }
+        return false;
+    }
+
+    // A token with an '=' is a key=value flag, unless it contains "=="
+    private void addToken(int start, int end) {
+        int separator = line.indexOf('=', start);
+        if (separator == -1 || separator >= end) {
+            addValue(start, end);
+            return;
+        }
+        for (int i = separator; i < end - 1; i++) {
+            if (line.charAt(i) == '=' && line.charAt(i + 1) == '=') {
+                addValue(start, end);
+                return;
+            }
+        }
+        addFlagToken(start, separator, end);
+    }
+
+    private void addValue(int start, int end) {
+        if (valueCount * 2 == values.length) {
+            values = Arrays.copyOf(values, Math.max(8, values.length * 2));
+        }
+        values[valueCount * 2] = start;
+        values[valueCount * 2 + 1] = end;
+        valueCount++;
+    }
+
+    private void addFlagToken(int start, int separator, int end) {
+        int token = flagTokenCount++;
+        if (token * 2 == flagValues.length) {
+            flagValues = Arrays.copyOf(flagValues, Math.max(8, flagValues.length * 2));
+            previousTokens = Arrays.copyOf(previousTokens, flagValues.length / 2);
+        }
+        flagValues[token * 2] = separator + 1;
+        flagValues[token * 2 + 1] = end;
+
+        // A key with an escaped comma is not a region of the line
+        String keyString = hasEscapedComma(start, separator) ? getText(start, separator) : null;
+        String text = keyString != null ? keyString : line;
+        int from = keyString != null ? 0 : start;
+        int to = keyString != null ? keyString.length() : separator;
+
+        int existingFlag = findFlag(text, from, to);
+        previousTokens[token] = existingFlag != -1 ? lastTokens[existingFlag] : -1;
+
+        int flag = findKey(text, from, to);
+        if (flag == -1) {
+            flag = newKey(start, separator, keyString);
+        }
+        lastTokens[flag] = token;
+    }
+
+    private int newKey(int start, int end, @Nullable String keyString) {
+        int flag = flagCount++;
+        if (flag * 2 == keys.length) {
+            keys = Arrays.copyOf(keys, Math.max(8, keys.length * 2));
+            lastTokens = Arrays.copyOf(lastTokens, keys.length / 2);
+            if (keyStrings != null) {
+                keyStrings = Arrays.copyOf(keyStrings, keys.length / 2);
+            }
+        }
+        keys[flag * 2] = start;
+        keys[flag * 2 + 1] = end;
+        if (keyString != null) {
+            if (keyStrings == null) {
+                keyStrings = new String[keys.length / 2];
+            }
+            keyStrings[flag] = keyString;
+        }
+        return flag;
+    }
+
+    private boolean hasEscapedComma(int start, int end) {
+        if (!escapedCommas) {
+            return false;
+        }
+        int comma = line.indexOf(",,", start);
+        return comma != -1 && comma + 1 < end;
+    }
+
+    private String getText(int start, int end) {
+        String text = line.substring(start, end);
+        return hasEscapedComma(start, end) ? text.replace(",,", ",") : text;
+    }
+
+}
@@ -162,6 +162,30 @@ public abstract class LineScalar implements ConfigScalar {
         line.map(value);
     }
 
+    @Override
+    public boolean toBoolean(boolean def) {
+        ConfigOptional<Boolean> bool = toBoolean();
+        return bool.isValid() ? bool.value() : def;
+    }
+
+    @Override
+    public int toInt(int def) {
+        ConfigOptional<Integer> integer = toInteger();
+        return integer.isValid() ? integer.value() : def;
+    }
+
+    @Override
+    public long toLong(long def) {
+        ConfigOptional<Long> longNumber = toLong();
+        return longNumber.isValid() ? longNumber.value() : def;
+    }
+
+    @Override
+    public double toDouble(double def) {
+        ConfigOptional<Double> doubleNumber = toDouble();
+        return doubleNumber.isValid() ? doubleNumber.value() : def;
+    }
+
     @Override
     public ConfigOptional<ConfigScalar> toScalar() {
         return line.toScalar();
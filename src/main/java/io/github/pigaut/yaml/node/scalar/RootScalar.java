@@ -13,15 +13,18 @@ import org.snakeyaml.engine.v2.nodes.*;
 import java.io.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.regex.*;
 
 public class RootScalar extends Scalar implements ConfigRoot {
 
-    private final ConfigLoad loader = new ConfigLoad();
+    private ConfigLoad loader = new ConfigLoad();
     private final ConfigDump dumper = new ConfigDump();
+    private final ConfigSave saver = new ConfigSave();
     private Configurator configurator;
     private String header = "";
+    private boolean frozen = false;
 
     private final @Nullable File file;
     private final @Nullable String name;
@@ -71,6 +74,7 @@ public class RootScalar extends Scalar implements ConfigRoot {
 
     @Override
     public void setPrefix(@Nullable String prefix) {
+        checkMutable();
         this.prefix = prefix;
     }
 
@@ -81,6 +85,7 @@ public class RootScalar extends Scalar implements ConfigRoot {
 
     @Override
     public void setConfigurator(@NotNull Configurator configurator) {
+        checkMutable();
         this.configurator = configurator;
     }
 
@@ -106,9 +111,36 @@ public class RootScalar extends Scalar implements ConfigRoot {
 
     @Override
     public void setHeader(@NotNull String... lines) {
+        checkMutable();
         this.header = YamlConfig.createHeader(lines);
     }
 
+    @Override
+    public @NotNull LoadProfile getLoadProfile() {
+        return loader.getProfile();
+    }
+
+    @Override
+    public void setLoadProfile(@NotNull LoadProfile profile) {
+        checkMutable();
+        if (profile != loader.getProfile()) {
+            loader = new ConfigLoad(profile, loader.getCodePointLimit());
+        }
+    }
+
+    @Override
+    public int getCodePointLimit() {
+        return loader.getCodePointLimit();
+    }
+
+    @Override
+    public void setCodePointLimit(int codePointLimit) {
+        checkMutable();
+        if (codePointLimit != loader.getCodePointLimit()) {
+            loader = new ConfigLoad(loader.getProfile(), codePointLimit);
+        }
+    }
+
     @Override
     public void load() throws ConfigLoadException {
         Preconditions.checkState(file != null, "Cannot load configuration from file because file is null");
@@ -133,7 +165,9 @@ public class RootScalar extends Scalar implements ConfigRoot {
         try (FileInputStream fileInputStream = new FileInputStream(file);
              InputStreamReader inputStreamReader = new InputStreamReader(fileInputStream, StandardCharsets.UTF_8);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            loadFromReader(reader);
+            HashingReader hashingReader = new HashingReader(reader);
+            loadFromReader(hashingReader);
+            saver.setSavedState(file, hashingReader.getHash());
         } catch (IOException e) {
             throw new ConfigLoadException(this, e.getMessage());
         }
@@ -141,6 +175,7 @@ public class RootScalar extends Scalar implements ConfigRoot {
 
     @Override
     public void loadFromStream(@NotNull InputStream inputStream) throws ConfigLoadException {
+        checkMutable();
         Node node;
         try {
             node = loader.loadFromInputStream(inputStream);
@@ -152,6 +187,7 @@ public class RootScalar extends Scalar implements ConfigRoot {
 
     @Override
     public void loadFromReader(@NotNull Reader reader) throws ConfigLoadException {
+        checkMutable();
         Node node;
         try {
             node = loader.loadFromReader(reader);
@@ -161,6 +197,31 @@ public class RootScalar extends Scalar implements ConfigRoot {
         load(node);
     }
 
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    public @NotNull RootScalar freeze() {
+        if (frozen) {
+            return this;
+        }
+        RootScalar frozenScalar = thaw();
+        frozenScalar.freezeNode(new HashMap<>());
+        frozenScalar.frozen = true;
+        return frozenScalar;
+    }
+
+    @Override
+    public @NotNull RootScalar thaw() {
+        RootScalar copy = new RootScalar(file, configurator, prefix);
+        copy.header = header;
+        copy.loader = loader;
+        ConfigFreezer.copy(this, copy);
+        return copy;
+    }
+
     @Override
     public boolean save() {
         if (file == null) {
@@ -171,18 +232,52 @@ public class RootScalar extends Scalar implements ConfigRoot {
 
     @Override
     public boolean save(@NotNull File file) {
-        if (!YamlConfig.createFileIfNotExists(file)) {
-            return false;
-        }
+        checkSavable();
+        return saver.save(this, file);
+    }
 
-        String yamlData = saveToString();
+    @Override
+    public @NotNull CompletableFuture<Boolean> saveAsync() {
+        if (file == null) {
+            throw new IllegalStateException("You cannot save configuration to file because file is null");
+        }
+        checkSavable();
+        return ConfigSaveScheduler.getDefault().schedule(this, () -> ConfigSave.snapshot(this),
+                content -> saver.save(content, file));
+    }
 
-        try (FileWriter writer = new FileWriter(file)) {
-            writer.write(yamlData);
-            return true;
-        } catch (IOException e) {
-            return false;
+    @Override
+    public @NotNull CompletableFuture<Boolean> saveAsync(@NotNull Executor ownerExecutor) {
+        if (file == null) {
+            throw new IllegalStateException("You cannot save configuration to file because file is null");
         }
+        checkSavable();
+        return ConfigSaveScheduler.getDefault().schedule(this, ownerExecutor, () -> ConfigSave.snapshot(this),
+                content -> saver.save(content, file));
+    }
+
+    @Override
+    public @NotNull ConfigSave getSaveState() {
+        return saver;
+    }
+
+    // Comments are not parsed by a read only profile, so saving would strip them from the file
+    private void checkSavable() {
+        Preconditions.checkState(loader.getProfile().isParseComments(),
+                "Cannot save configuration because it was loaded without comments");
+    }
+
+    @Override
+    public void saveTo(@NotNull Appendable output) throws IOException {
+        output.append(header);
+        dumper.dump(this, output);
+    }
+
+    @Override
+    public void saveTo(@NotNull OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        saveTo(writer);
+        writer.flush();
     }
 
     @Override
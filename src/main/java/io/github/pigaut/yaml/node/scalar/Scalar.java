@@ -20,6 +20,12 @@ public abstract class Scalar extends Field implements ConfigScalar {
     private ScalarStyle scalarStyle;
     private @Nullable Line line = null;
 
+    // The last typed value read from this scalar, only reused while the scalar holds the value it was read from.
+    // Frozen scalars keep neither a typed value nor a line, since they are read from any thread
+    private @Nullable CachedValue cachedValue = null;
+    // The numbers a string value parses to, set when the scalar is frozen instead of memoizing them on read
+    private @Nullable FrozenNumbers frozenNumbers = null;
+
     protected Scalar(@NotNull Object value) {
         this(value, ScalarStyle.PLAIN);
     }
@@ -59,6 +65,7 @@ public abstract class Scalar extends Field implements ConfigScalar {
 
     @Override
     public void setValue(@Nullable Object value) {
+        checkMutable();
         setValueInternal(value);
     }
 
@@ -72,6 +79,7 @@ public abstract class Scalar extends Field implements ConfigScalar {
         else {
             this.value = "";
         }
+        cachedValue = null;
 
         if (line != null) {
             line.updateLine(this.value.toString());
@@ -85,9 +93,21 @@ public abstract class Scalar extends Field implements ConfigScalar {
 
     @Override
     public void setScalarStyle(@NotNull ScalarStyle scalarStyle) {
+        checkMutable();
         this.scalarStyle = scalarStyle;
     }
 
+    @Override
+    public void freezeNode(@NotNull Map<Object, Object> canonicalValues) {
+        super.freezeNode(canonicalValues);
+        Object canonicalValue = canonicalValues.putIfAbsent(value, value);
+        if (canonicalValue != null) {
+            value = canonicalValue;
+        }
+        cachedValue = null;
+        frozenNumbers = value instanceof String string ? FrozenNumbers.parse(string) : null;
+    }
+
     @Override
     public void replaceAll(@NotNull CharSequence target, @NotNull CharSequence replacement) {
         String string = toString();
@@ -124,10 +144,20 @@ public abstract class Scalar extends Field implements ConfigScalar {
             return ConfigOptional.of(this, ((Number) value).intValue());
         }
         if (value instanceof String string) {
-            Integer parsed = ParseUtil.parseIntegerOrNull(string);
-            if (parsed != null) {
-                return ConfigOptional.of(this, parsed);
+            FrozenNumbers numbers = frozenNumbers;
+            if (numbers != null) {
+                return numbers.integerValue() != null
+                        ? ConfigOptional.of(this, numbers.integerValue())
+                        : ConfigOptional.invalid(this, "Expected an integer but found: " + this);
             }
+            ConfigOptional<Integer> cached = getCached(Integer.class, null, string);
+            if (cached != null) {
+                return cached;
+            }
+            Integer parsed = ParseUtil.parseIntegerOrNull(string);
+            return cache(Integer.class, null, string, parsed != null
+                    ? ConfigOptional.of(this, parsed)
+                    : ConfigOptional.invalid(this, "Expected an integer but found: " + this));
         }
         return ConfigOptional.invalid(this, "Expected an integer but found: " + this);
     }
@@ -138,10 +168,20 @@ public abstract class Scalar extends Field implements ConfigScalar {
             return ConfigOptional.of(this, ((Number) value).longValue());
         }
         if (value instanceof String string) {
-            Long parsed = ParseUtil.parseLongOrNull(string);
-            if (parsed != null) {
-                return ConfigOptional.of(this, parsed);
+            FrozenNumbers numbers = frozenNumbers;
+            if (numbers != null) {
+                return numbers.longValue() != null
+                        ? ConfigOptional.of(this, numbers.longValue())
+                        : ConfigOptional.invalid(this, "Expected a long but found: " + this);
+            }
+            ConfigOptional<Long> cached = getCached(Long.class, null, string);
+            if (cached != null) {
+                return cached;
             }
+            Long parsed = ParseUtil.parseLongOrNull(string);
+            return cache(Long.class, null, string, parsed != null
+                    ? ConfigOptional.of(this, parsed)
+                    : ConfigOptional.invalid(this, "Expected a long but found: " + this));
         }
         return ConfigOptional.invalid(this, "Expected a long but found: " + this);
     }
@@ -152,10 +192,20 @@ public abstract class Scalar extends Field implements ConfigScalar {
             return ConfigOptional.of(this, ((Number) value).doubleValue());
         }
         if (value instanceof String string) {
-            Double parsed = ParseUtil.parsePercentageOrNull(string);
-            if (parsed != null) {
-                return ConfigOptional.of(this, parsed);
+            FrozenNumbers numbers = frozenNumbers;
+            if (numbers != null) {
+                return numbers.doubleValue() != null
+                        ? ConfigOptional.of(this, numbers.doubleValue())
+                        : ConfigOptional.invalid(this, "Expected a double but found: " + this);
             }
+            ConfigOptional<Double> cached = getCached(Double.class, null, string);
+            if (cached != null) {
+                return cached;
+            }
+            Double parsed = ParseUtil.parsePercentageOrNull(string);
+            return cache(Double.class, null, string, parsed != null
+                    ? ConfigOptional.of(this, parsed)
+                    : ConfigOptional.invalid(this, "Expected a double but found: " + this));
         }
         return ConfigOptional.invalid(this, "Expected a double but found: " + this);
     }
@@ -166,14 +216,82 @@ public abstract class Scalar extends Field implements ConfigScalar {
             return ConfigOptional.of(this, ((Number) value).floatValue());
         }
         if (value instanceof String string) {
-            Double parsed = ParseUtil.parsePercentageOrNull(string);
-            if (parsed != null) {
-                return ConfigOptional.of(this, parsed.floatValue());
+            FrozenNumbers numbers = frozenNumbers;
+            if (numbers != null) {
+                return numbers.doubleValue() != null
+                        ? ConfigOptional.of(this, numbers.doubleValue().floatValue())
+                        : ConfigOptional.invalid(this, "Expected a float but found: " + this);
+            }
+            ConfigOptional<Float> cached = getCached(Float.class, null, string);
+            if (cached != null) {
+                return cached;
             }
+            Double parsed = ParseUtil.parsePercentageOrNull(string);
+            return cache(Float.class, null, string, parsed != null
+                    ? ConfigOptional.of(this, parsed.floatValue())
+                    : ConfigOptional.invalid(this, "Expected a float but found: " + this));
         }
         return ConfigOptional.invalid(this, "Expected a float but found: " + this);
     }
 
+    // Reads without a default allocate an optional, these only read the stored value or the memoized parse
+
+    @Override
+    public boolean toBoolean(boolean def) {
+        return value instanceof Boolean bool ? bool : def;
+    }
+
+    @Override
+    public int toInt(int def) {
+        Object value = this.value;
+        if (ScalarUtil.isInteger(value)) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof String) {
+            FrozenNumbers numbers = frozenNumbers;
+            if (numbers != null) {
+                return numbers.integerValue() != null ? numbers.integerValue() : def;
+            }
+            ConfigOptional<Integer> parsed = toInteger();
+            return parsed.isValid() ? parsed.value() : def;
+        }
+        return def;
+    }
+
+    @Override
+    public long toLong(long def) {
+        Object value = this.value;
+        if (ScalarUtil.isLong(value)) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof String) {
+            FrozenNumbers numbers = frozenNumbers;
+            if (numbers != null) {
+                return numbers.longValue() != null ? numbers.longValue() : def;
+            }
+            ConfigOptional<Long> parsed = toLong();
+            return parsed.isValid() ? parsed.value() : def;
+        }
+        return def;
+    }
+
+    @Override
+    public double toDouble(double def) {
+        Object value = this.value;
+        if (ScalarUtil.isDouble(value)) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof String) {
+            FrozenNumbers numbers = frozenNumbers;
+            if (numbers != null) {
+                return numbers.doubleValue() != null ? numbers.doubleValue() : def;
+            }
+            ConfigOptional<Double> parsed = toDouble();
+            return parsed.isValid() ? parsed.value() : def;
+        }
+        return def;
+    }
+
     @Override
     public @NotNull FieldType getFieldType() {
         return FieldType.SCALAR;
@@ -194,12 +312,41 @@ public abstract class Scalar extends Field implements ConfigScalar {
             throw new IllegalArgumentException("No config loader found for class type: " + classType.getSimpleName());
         }
 
+        boolean cacheable = loader.isCacheable() && !root.isFrozen();
+        Object value = this.value;
+        if (cacheable) {
+            ConfigOptional<T> cached = getCached(classType, loader, value);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        ConfigOptional<T> result;
         try {
-            return ConfigOptional.of(this, loader.loadFromScalar(this));
+            result = ConfigOptional.of(this, loader.loadFromScalar(this));
         } catch (InvalidConfigException e) {
             e.setError(loader.getErrorDescription());
-            return ConfigOptional.invalid(e);
+            result = ConfigOptional.invalid(e);
         }
+        return cacheable ? cache(classType, loader, value, result) : result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> @Nullable ConfigOptional<T> getCached(Class<T> classType, @Nullable ConfigLoader<?> loader, Object value) {
+        CachedValue cached = cachedValue;
+        if (cached != null && cached.classType() == classType && cached.loader() == loader && cached.value() == value) {
+            return (ConfigOptional<T>) cached.result();
+        }
+        return null;
+    }
+
+    // Every typed value is memoized through here, so that frozen scalars are never written on read. Invalid results
+    // are not memoized, callers set the error of their exception
+    private <T> ConfigOptional<T> cache(Class<T> classType, @Nullable ConfigLoader<?> loader, Object value, ConfigOptional<T> result) {
+        if (result.isValid() && !getRoot().isFrozen()) {
+            cachedValue = new CachedValue(classType, loader, value, result);
+        }
+        return result;
     }
 
     @Override
@@ -235,7 +382,14 @@ public abstract class Scalar extends Field implements ConfigScalar {
 
     @Override
     public ConfigLine toLine(@NotNull LineStyle lineStyle) {
-        return line != null ? line : (line = new Line(this, lineStyle));
+        if (line != null) {
+            return line;
+        }
+        Line line = new Line(this, lineStyle);
+        if (!getRoot().isFrozen()) {
+            this.line = line;
+        }
+        return line;
     }
 
     @Override
@@ -243,4 +397,24 @@ public abstract class Scalar extends Field implements ConfigScalar {
         return value.toString();
     }
 
+    private record FrozenNumbers(@Nullable Integer integerValue, @Nullable Long longValue, @Nullable Double doubleValue) {
+
+        // Shared by every frozen string that is not a number
+        private static final FrozenNumbers NONE = new FrozenNumbers(null, null, null);
+
+        static FrozenNumbers parse(String string) {
+            Integer integerValue = ParseUtil.parseIntegerOrNull(string);
+            Long longValue = ParseUtil.parseLongOrNull(string);
+            // Most strings are not percentages, so they are not parsed only to throw
+            Double doubleValue = string.endsWith("%") ? ParseUtil.parsePercentageOrNull(string) : null;
+            if (integerValue == null && longValue == null && doubleValue == null) {
+                return NONE;
+            }
+            return new FrozenNumbers(integerValue, longValue, doubleValue);
+        }
+
+    }
+
+    private record CachedValue(Class<?> classType, @Nullable ConfigLoader<?> loader, Object value, ConfigOptional<?> result) {}
+
 }
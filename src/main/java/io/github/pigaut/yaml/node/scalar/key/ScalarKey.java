@@ -55,6 +55,7 @@ public class ScalarKey extends Scalar {
 
     @Override
     public void setValue(@Nullable Object value) {
+        checkMutable();
         String oldKey = toString();
         String newKey = value != null ? value.toString() : YamlConfig.generateRandomKey();
         parent.onKeyChanged(owner, oldKey, newKey);
@@ -0,0 +1,272 @@
+package io.github.pigaut.yaml.node.section;
+
+import io.github.pigaut.yaml.node.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * The fields of a section in insertion order. Most sections only have a few keys, so keys and fields are kept
+ * in parallel arrays that are searched linearly, and moved to a {@link LinkedHashMap} once the section grows
+ * past {@link #MAX_ARRAY_SIZE} keys. Replacing the field of an existing key keeps its position, like a linked map.
+ */
+class AdaptiveFieldMap extends AbstractMap<String, KeyedField> {
+
+    static final int MAX_ARRAY_SIZE = 16;
+
+    private static final String[] NO_KEYS = {};
+    private static final KeyedField[] NO_FIELDS = {};
+
+    private String[] keys = NO_KEYS;
+    private KeyedField[] fields = NO_FIELDS;
+    private int size = 0;
+    private int modCount = 0;
+    private @Nullable LinkedHashMap<String, KeyedField> map = null;
+
+    // Keys are compared with equals alone, which checks the length first, so that a lookup compiles small
+    // enough for the getters of a section to be inlined into their callers
+    private int indexOf(Object key) {
+        for (int i = 0; i < size; i++) {
+            String existingKey = keys[i];
+            if (existingKey == key || existingKey.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public KeyedField get(Object key) {
+        if (map != null) {
+            return map.get(key);
+        }
+        if (key == null) {
+            return null;
+        }
+        int index = indexOf(key);
+        return index != -1 ? fields[index] : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (map != null) {
+            return map.containsKey(key);
+        }
+        return key != null && indexOf(key) != -1;
+    }
+
+    @Override
+    public KeyedField put(String key, KeyedField field) {
+        if (map != null) {
+            return map.put(key, field);
+        }
+
+        int index = indexOf(key);
+        if (index != -1) {
+            KeyedField previousField = fields[index];
+            fields[index] = field;
+            return previousField;
+        }
+
+        if (size == MAX_ARRAY_SIZE) {
+            map = new LinkedHashMap<>();
+            for (int i = 0; i < size; i++) {
+                map.put(keys[i], fields[i]);
+            }
+            keys = NO_KEYS;
+            fields = NO_FIELDS;
+            size = 0;
+            return map.put(key, field);
+        }
+
+        if (size == keys.length) {
+            int capacity = size == 0 ? 2 : Math.min(size * 2, MAX_ARRAY_SIZE);
+            keys = Arrays.copyOf(keys, capacity);
+            fields = Arrays.copyOf(fields, capacity);
+        }
+        keys[size] = key;
+        fields[size] = field;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public KeyedField remove(Object key) {
+        if (map != null) {
+            return map.remove(key);
+        }
+        if (key == null) {
+            return null;
+        }
+        int index = indexOf(key);
+        if (index == -1) {
+            return null;
+        }
+        KeyedField removedField = fields[index];
+        removeAt(index);
+        return removedField;
+    }
+
+    private void removeAt(int index) {
+        int moved = size - index - 1;
+        if (moved > 0) {
+            System.arraycopy(keys, index + 1, keys, index, moved);
+            System.arraycopy(fields, index + 1, fields, index, moved);
+        }
+        size--;
+        keys[size] = null;
+        fields[size] = null;
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        map = null;
+        keys = NO_KEYS;
+        fields = NO_FIELDS;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return map != null ? map.size() : size;
+    }
+
+    @Override
+    public @NotNull Collection<KeyedField> values() {
+        if (map != null) {
+            return map.values();
+        }
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<KeyedField> iterator() {
+                return new ArrayIterator<>() {
+                    @Override
+                    KeyedField get(int index) {
+                        return fields[index];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return AdaptiveFieldMap.this.size();
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, KeyedField>> entrySet() {
+        if (map != null) {
+            return map.entrySet();
+        }
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, KeyedField>> iterator() {
+                return new ArrayIterator<>() {
+                    @Override
+                    Entry<String, KeyedField> get(int index) {
+                        return new ArrayEntry(index);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return AdaptiveFieldMap.this.size();
+            }
+        };
+    }
+
+    // Iterators over the arrays, an upgrade to the linked map while iterating counts as a modification
+    private abstract class ArrayIterator<E> implements Iterator<E> {
+
+        private int next = 0;
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        abstract E get(int index);
+
+        @Override
+        public boolean hasNext() {
+            // The size is reset when the fields move to the map, so next() has to be reached to throw
+            return next < size || map != null;
+        }
+
+        @Override
+        public E next() {
+            checkForModification();
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return get(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last == -1) {
+                throw new IllegalStateException();
+            }
+            checkForModification();
+            removeAt(last);
+            next = last;
+            last = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForModification() {
+            if (modCount != expectedModCount || map != null) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+    }
+
+    private class ArrayEntry implements Entry<String, KeyedField> {
+
+        private final int index;
+
+        private ArrayEntry(int index) {
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return keys[index];
+        }
+
+        @Override
+        public KeyedField getValue() {
+            return fields[index];
+        }
+
+        @Override
+        public KeyedField setValue(KeyedField field) {
+            KeyedField previousField = fields[index];
+            fields[index] = field;
+            return previousField;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            return object instanceof Entry<?, ?> entry
+                    && Objects.equals(getKey(), entry.getKey())
+                    && Objects.equals(getValue(), entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+
+    }
+
+}
@@ -0,0 +1,131 @@
+package io.github.pigaut.yaml.node.section;
+
+import io.github.pigaut.yaml.node.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * The fields of a frozen section, keys and fields are kept in insertion ordered arrays
+ * with an open addressing index of positions built once.
+ */
+class FrozenFieldMap extends AbstractMap<String, KeyedField> {
+
+    private final String[] keys;
+    private final KeyedField[] fields;
+    private final int[] positions;
+    private final List<KeyedField> fieldList;
+
+    FrozenFieldMap(@NotNull Map<String, KeyedField> fieldsByKey) {
+        int size = fieldsByKey.size();
+        this.keys = new String[size];
+        this.fields = new KeyedField[size];
+        this.positions = new int[Integer.highestOneBit(Math.max(1, size)) << 2];
+
+        int mask = positions.length - 1;
+        int position = 0;
+        for (Map.Entry<String, KeyedField> entry : fieldsByKey.entrySet()) {
+            String key = entry.getKey().intern();
+            keys[position] = key;
+            fields[position] = entry.getValue();
+
+            int slot = hash(key) & mask;
+            while (positions[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            positions[slot] = ++position;
+        }
+        this.fieldList = Collections.unmodifiableList(Arrays.asList(fields));
+    }
+
+    private static int hash(Object key) {
+        int hash = key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public KeyedField get(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        int mask = positions.length - 1;
+        int slot = hash(key) & mask;
+        int position;
+        while ((position = positions[slot]) != 0) {
+            String existingKey = keys[position - 1];
+            if (existingKey == key || existingKey.equals(key)) {
+                return fields[position - 1];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return keys.length;
+    }
+
+    @Override
+    public @NotNull Collection<KeyedField> values() {
+        return fieldList;
+    }
+
+    @Override
+    public @NotNull Set<Entry<String, KeyedField>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, KeyedField>> iterator() {
+                return new Iterator<>() {
+                    private int position = 0;
+
+                    @Override
+                    public boolean hasNext() {
+                        return position < keys.length;
+                    }
+
+                    @Override
+                    public Entry<String, KeyedField> next() {
+                        if (position >= keys.length) {
+                            throw new NoSuchElementException();
+                        }
+                        Entry<String, KeyedField> entry = new SimpleImmutableEntry<>(keys[position], fields[position]);
+                        position++;
+                        return entry;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keys.length;
+            }
+        };
+    }
+
+    @Override
+    public KeyedField put(String key, KeyedField value) {
+        throw new UnsupportedOperationException("Configuration is frozen");
+    }
+
+    @Override
+    public KeyedField remove(Object key) {
+        throw new UnsupportedOperationException("Configuration is frozen");
+    }
+
+    @Override
+    public void putAll(@NotNull Map<? extends String, ? extends KeyedField> map) {
+        throw new UnsupportedOperationException("Configuration is frozen");
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException("Configuration is frozen");
+    }
+
+}
@@ -12,14 +12,19 @@ import org.snakeyaml.engine.v2.nodes.*;
 
 import java.io.*;
 import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 public class RootSection extends Section implements ConfigRoot {
 
-    private final ConfigLoad loader = new ConfigLoad();
+    private ConfigLoad loader = new ConfigLoad();
     private final ConfigDump dumper = new ConfigDump();
+    private final ConfigSave saver = new ConfigSave();
     private Configurator configurator;
     private String header = "";
+    private boolean frozen = false;
+    private @Nullable PathIndex pathIndex = null;
 
     private final @Nullable File file;
     private final @Nullable String name;
@@ -62,6 +67,31 @@ public class RootSection extends Section implements ConfigRoot {
         throw new UnsupportedOperationException("Root does not have a parent");
     }
 
+    @Override
+    public @Nullable PathIndex getPathIndex() {
+        return pathIndex;
+    }
+
+    public boolean isPathIndexEnabled() {
+        return pathIndex != null;
+    }
+
+    /**
+     * Enables or disables the index of every field by its full path, which turns lookups from the root
+     * into a single hash probe at the memory cost described in {@link PathIndex}.
+     */
+    public void setPathIndexEnabled(boolean enabled) {
+        checkMutable();
+        if (!enabled) {
+            pathIndex = null;
+            return;
+        }
+        if (pathIndex == null) {
+            pathIndex = new PathIndex();
+            pathIndex.addChildren(this);
+        }
+    }
+
     @Override
     public @Nullable String getPrefix() {
         return prefix;
@@ -69,6 +99,7 @@ public class RootSection extends Section implements ConfigRoot {
 
     @Override
     public void setPrefix(@Nullable String prefix) {
+        checkMutable();
         this.prefix = prefix;
     }
 
@@ -79,6 +110,7 @@ public class RootSection extends Section implements ConfigRoot {
 
     @Override
     public void setConfigurator(@NotNull Configurator configurator) {
+        checkMutable();
         this.configurator = configurator;
     }
 
@@ -104,9 +136,36 @@ public class RootSection extends Section implements ConfigRoot {
 
     @Override
     public void setHeader(@NotNull String... lines) {
+        checkMutable();
         this.header = YamlConfig.createHeader(lines);
     }
 
+    @Override
+    public @NotNull LoadProfile getLoadProfile() {
+        return loader.getProfile();
+    }
+
+    @Override
+    public void setLoadProfile(@NotNull LoadProfile profile) {
+        checkMutable();
+        if (profile != loader.getProfile()) {
+            loader = new ConfigLoad(profile, loader.getCodePointLimit());
+        }
+    }
+
+    @Override
+    public int getCodePointLimit() {
+        return loader.getCodePointLimit();
+    }
+
+    @Override
+    public void setCodePointLimit(int codePointLimit) {
+        checkMutable();
+        if (codePointLimit != loader.getCodePointLimit()) {
+            loader = new ConfigLoad(loader.getProfile(), codePointLimit);
+        }
+    }
+
     @Override
     public void load() throws ConfigLoadException {
         Preconditions.checkState(file != null, "Cannot load configuration from file because file is null");
@@ -131,7 +190,9 @@ public class RootSection extends Section implements ConfigRoot {
         try (FileInputStream fileInputStream = new FileInputStream(file);
              InputStreamReader inputStreamReader = new InputStreamReader(fileInputStream, StandardCharsets.UTF_8);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            loadFromReader(reader);
+            HashingReader hashingReader = new HashingReader(reader);
+            loadFromReader(hashingReader);
+            saver.setSavedState(file, hashingReader.getHash());
         } catch (IOException e) {
             throw new ConfigLoadException(this, e.getMessage());
         }
@@ -139,24 +200,68 @@ public class RootSection extends Section implements ConfigRoot {
 
     @Override
     public void loadFromStream(@NotNull InputStream inputStream) throws ConfigLoadException {
-        Node node;
-        try {
-            node = loader.loadFromInputStream(inputStream);
-        } catch (YamlEngineException e) {
-            throw new ConfigLoadException(this, e.getMessage());
-        }
-        load(node);
+        checkMutable();
+        load(loader.createTreeBuilder(inputStream));
     }
 
     @Override
     public void loadFromReader(@NotNull Reader reader) throws ConfigLoadException {
-        Node node;
-        try {
-            node = loader.loadFromReader(reader);
-        } catch (YamlEngineException e) {
-            throw new ConfigLoadException(this, e.getMessage());
+        checkMutable();
+        load(loader.createTreeBuilder(reader));
+    }
+
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    public @NotNull RootSection freeze() {
+        if (frozen) {
+            return this;
+        }
+        RootSection frozenSection = thaw();
+        frozenSection.freezeNode(new HashMap<>());
+        frozenSection.frozen = true;
+        return frozenSection;
+    }
+
+    @Override
+    public @NotNull RootSection thaw() {
+        RootSection copy = new RootSection(file, configurator, prefix);
+        copy.header = header;
+        copy.loader = loader;
+        copy.setPathIndexEnabled(pathIndex != null);
+        ConfigFreezer.copy(this, copy);
+        return copy;
+    }
+
+    /**
+     * Returns a mutable root with the settings of this frozen root that shares its fields. The shared fields stay
+     * frozen, {@link ConfigFreezer#copyPath} replaces the ones on a path by copies that can be modified.
+     */
+    public @NotNull RootSection copyShared() {
+        Preconditions.checkState(frozen, "Only frozen configurations can share their fields");
+        RootSection copy = new RootSection(file, configurator, prefix);
+        copy.header = header;
+        copy.loader = loader;
+        copy.saver.copySavedState(saver);
+        copy.setFlowStyle(getFlowStyle());
+        copy.setBlockComments(getBlockComments());
+        copy.setInLineComments(getInLineComments());
+        copy.shareNodes(this);
+        if (pathIndex != null) {
+            copy.pathIndex = new PathIndex(pathIndex);
         }
-        load(node);
+        return copy;
+    }
+
+    // Freezes a root returned by copyShared in place, the fields it still shares are frozen already
+    public @NotNull RootSection freezeShared() {
+        Preconditions.checkState(!frozen, "Configuration is already frozen");
+        freezeNode(new HashMap<>());
+        frozen = true;
+        return this;
     }
 
     @Override
@@ -169,18 +274,52 @@ public class RootSection extends Section implements ConfigRoot {
 
     @Override
     public boolean save(@NotNull File file) {
-        if (!YamlConfig.createFileIfNotExists(file)) {
-            return false;
-        }
+        checkSavable();
+        return saver.save(this, file);
+    }
 
-        String yamlData = saveToString();
+    @Override
+    public @NotNull CompletableFuture<Boolean> saveAsync() {
+        if (file == null) {
+            throw new IllegalStateException("You cannot save configuration to file because file is null");
+        }
+        checkSavable();
+        return ConfigSaveScheduler.getDefault().schedule(this, () -> ConfigSave.snapshot(this),
+                content -> saver.save(content, file));
+    }
 
-        try (FileWriter writer = new FileWriter(file)) {
-            writer.write(yamlData);
-            return true;
-        } catch (IOException e) {
-            return false;
+    @Override
+    public @NotNull CompletableFuture<Boolean> saveAsync(@NotNull Executor ownerExecutor) {
+        if (file == null) {
+            throw new IllegalStateException("You cannot save configuration to file because file is null");
         }
+        checkSavable();
+        return ConfigSaveScheduler.getDefault().schedule(this, ownerExecutor, () -> ConfigSave.snapshot(this),
+                content -> saver.save(content, file));
+    }
+
+    @Override
+    public @NotNull ConfigSave getSaveState() {
+        return saver;
+    }
+
+    // Comments are not parsed by a read only profile, so saving would strip them from the file
+    private void checkSavable() {
+        Preconditions.checkState(loader.getProfile().isParseComments(),
+                "Cannot save configuration because it was loaded without comments");
+    }
+
+    @Override
+    public void saveTo(@NotNull Appendable output) throws IOException {
+        output.append(header);
+        dumper.dump(this, output);
+    }
+
+    @Override
+    public void saveTo(@NotNull OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        saveTo(writer);
+        writer.flush();
     }
 
     @Override
@@ -188,11 +327,26 @@ public class RootSection extends Section implements ConfigRoot {
         return header + dumper.dumpToString(this);
     }
 
-    private void load(Node node) throws ConfigLoadException {
-        if (!(node instanceof MappingNode)) {
+    // A section that already has fields is only updated once the whole document has been read
+    private void load(ConfigTreeBuilder builder) throws ConfigLoadException {
+        RootSection target = isEmpty() ? this : new RootSection(file, configurator, prefix);
+        boolean loaded;
+        try {
+            loaded = builder.buildSingleDocument(target);
+        } catch (YamlEngineException e) {
+            if (target == this) {
+                clear();
+            }
+            throw new ConfigLoadException(this, e.getMessage());
+        }
+
+        if (!loaded) {
             throw new ConfigLoadException(this, "Expected a section but found another node");
         }
-        map(node);
+
+        if (target != this) {
+            ConfigTreeBuilder.copy(target, this);
+        }
     }
 
     @Override
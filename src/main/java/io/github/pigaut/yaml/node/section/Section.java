@@ -21,7 +21,7 @@ import java.util.stream.*;
 
 public abstract class Section extends Branch implements ConfigSection {
 
-    private final Map<String, KeyedField> fieldsByKey = new LinkedHashMap<>();
+    private Map<String, KeyedField> fieldsByKey = new AdaptiveFieldMap();
 
     protected Section(FlowStyle flowStyle) {
         super(flowStyle);
@@ -32,19 +32,83 @@ public abstract class Section extends Branch implements ConfigSection {
     }
 
     public void addNode(KeyedField keyedField) {
-        fieldsByKey.put(keyedField.getKey(), keyedField);
+        String key = keyedField.getKey();
+        KeyedField previousField = fieldsByKey.put(key, keyedField);
+        PathIndex pathIndex = getRootPathIndex();
+        if (pathIndex != null) {
+            if (previousField != null && previousField != keyedField) {
+                pathIndex.removeField(this, (Field) previousField, key);
+            }
+            pathIndex.addField(this, (Field) keyedField, key);
+        }
     }
 
     public void removeNode(String key) {
-        fieldsByKey.remove(key);
+        KeyedField removedField = fieldsByKey.remove(key);
+        if (removedField != null) {
+            PathIndex pathIndex = getRootPathIndex();
+            if (pathIndex != null) {
+                pathIndex.removeField(this, (Field) removedField, key);
+            }
+        }
+    }
+
+    // Fields shared with a frozen section keep it as their parent, see ConfigFreezer#copyPath
+    public void shareNodes(Section source) {
+        for (Map.Entry<String, KeyedField> entry : source.fieldsByKey.entrySet()) {
+            fieldsByKey.put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // The copy holds the same fields as the field it replaces, so only the index entry of the copy changes
+    public void replaceNode(KeyedField copy) {
+        String key = copy.getKey();
+        fieldsByKey.put(key, copy);
+        PathIndex pathIndex = getRootPathIndex();
+        if (pathIndex != null) {
+            pathIndex.replaceField(this, (Field) copy, key);
+        }
     }
 
+    // A field converted to another type keeps the key scalar of the field it replaced, so fields are matched by their key
     public void onKeyChanged(KeyedField field, String oldKey, String newKey) {
-        if (fieldsByKey.get(oldKey) != field) {
+        KeyedField currentField = fieldsByKey.get(oldKey);
+        if (currentField == null || currentField.getKeyScalar() != field.getKeyScalar()) {
             return;
         }
         fieldsByKey.remove(oldKey);
-        fieldsByKey.put(newKey, field);
+        KeyedField replacedField = fieldsByKey.put(newKey, currentField);
+        PathIndex pathIndex = getRootPathIndex();
+        if (pathIndex != null) {
+            pathIndex.removeField(this, (Field) currentField, oldKey);
+            if (replacedField != null && replacedField != currentField) {
+                pathIndex.removeField(this, (Field) replacedField, newKey);
+            }
+            pathIndex.addField(this, (Field) currentField, newKey);
+        }
+    }
+
+    // Keys are interned before the key scalars are frozen, so the keys of the index and of the scalars are shared.
+    // Fields shared with another frozen section are frozen already
+    @Override
+    public void freezeNode(@NotNull Map<Object, Object> canonicalValues) {
+        super.freezeNode(canonicalValues);
+        for (Map.Entry<String, KeyedField> entry : fieldsByKey.entrySet()) {
+            KeyedField field = entry.getValue();
+            if (((Field) field).getParent() != this) {
+                continue;
+            }
+            String key = entry.getKey().intern();
+            canonicalValues.putIfAbsent(key, key);
+            ((Field) field.getKeyScalar()).freezeNode(canonicalValues);
+            ((Field) field).freezeNode(canonicalValues);
+        }
+        fieldsByKey = new FrozenFieldMap(fieldsByKey);
+    }
+
+    // Only the root holds an index, lookups from nested sections walk the path
+    protected @Nullable PathIndex getPathIndex() {
+        return null;
     }
 
     @Override
@@ -78,7 +142,7 @@ public abstract class Section extends Branch implements ConfigSection {
         Preconditions.checkNotNull(value, "Value cannot be null");
         var classType = value.getClass();
         if (YamlConfig.isScalarType(classType)) {
-            createScalar(YamlConfig.generateRandomKey(), value);
+            createScalar(ConfigPath.parse(YamlConfig.generateRandomKey()), value);
             return;
         }
 
@@ -88,7 +152,7 @@ public abstract class Section extends Branch implements ConfigSection {
             throw new IllegalArgumentException("No config mapper found for value of class type: " + classType.getSimpleName());
         }
 
-        String key = mapper.createKey(value);
+        ConfigPath key = ConfigPath.parse(mapper.createKey(value));
         ConfigField existingField = getField(key).orElse(null);
         if (existingField != null) {
             if (mapper.clearExistingFields()) {
@@ -211,26 +275,51 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public boolean contains(@NotNull String path) {
-        return getField(path).isValid();
+        return contains(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean contains(@NotNull ConfigPath path) {
+        return findField(path) != null;
     }
 
     @Override
     public boolean isSet(@NotNull String path) {
-        return getScalar(path).isValid();
+        return isSet(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isSet(@NotNull ConfigPath path) {
+        return findField(path) instanceof ConfigScalar;
     }
 
     @Override
     public boolean isSection(@NotNull String path) {
-        return getSection(path).isValid();
+        return isSection(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isSection(@NotNull ConfigPath path) {
+        return findField(path) instanceof ConfigSection;
     }
 
     @Override
     public boolean isSequence(@NotNull String path) {
-        return getSequence(path).isValid();
+        return isSequence(ConfigPath.of(path));
+    }
+
+    @Override
+    public boolean isSequence(@NotNull ConfigPath path) {
+        return findField(path) instanceof ConfigSequence;
     }
 
     @Override
     public <T> void set(@NotNull String path, @Nullable T value) {
+        set(ConfigPath.of(path), value);
+    }
+
+    @Override
+    public <T> void set(@NotNull ConfigPath path, @Nullable T value) {
         if (value == null) {
             createScalar(path, "");
             return;
@@ -297,6 +386,11 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public void remove(@NotNull String path) {
+        remove(ConfigPath.of(path));
+    }
+
+    @Override
+    public void remove(@NotNull ConfigPath path) {
         final PathIterator iterator = PathIterator.of(this, path);
         while (iterator.hasNext()) {
             if (iterator.isLast()) {
@@ -343,6 +437,11 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public @NotNull Section getSectionOrCreate(@NotNull String path) {
+        return getSectionOrCreate(ConfigPath.of(path));
+    }
+
+    @Override
+    public @NotNull Section getSectionOrCreate(@NotNull ConfigPath path) {
         PathIterator iterator = PathIterator.of(this, path);
         Branch currentBranch = this;
         while (iterator.hasNext()) {
@@ -353,6 +452,11 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public @NotNull Sequence getSequenceOrCreate(@NotNull String path) {
+        return getSequenceOrCreate(ConfigPath.of(path));
+    }
+
+    @Override
+    public @NotNull Sequence getSequenceOrCreate(@NotNull ConfigPath path) {
         PathIterator iterator = PathIterator.of(this, path);
         Branch currentBranch = this;
         while (iterator.hasNext()) {
@@ -363,6 +467,11 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public ConfigScalar getScalarOrCreate(@NotNull String path) {
+        return getScalarOrCreate(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigScalar getScalarOrCreate(@NotNull ConfigPath path) {
         ConfigScalar scalar = getScalar(path).orElse(null);
         return scalar != null ? scalar : createScalar(path, "");
     }
@@ -382,6 +491,11 @@ public abstract class Section extends Branch implements ConfigSection {
         return get(path, classType).orThrow();
     }
 
+    @Override
+    public <T> @NotNull T getRequired(@NotNull ConfigPath path, @NotNull Class<T> classType) throws InvalidConfigException {
+        return get(path, classType).orThrow();
+    }
+
     @Override
     public @NotNull ConfigField getRequiredField(@NotNull String path) throws InvalidConfigException {
         return getField(path).orThrow();
@@ -449,10 +563,46 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public <T> ConfigOptional<T> get(@NotNull String path, @NotNull Class<T> classType) {
-        return getField(path).flatMap(field -> field.get(classType));
+        return get(ConfigPath.of(path), classType);
+    }
+
+    @Override
+    public <T> ConfigOptional<T> get(@NotNull ConfigPath path, @NotNull Class<T> classType) {
+        ConfigField field = findField(path);
+        return field != null ? field.get(classType) : notSet(path);
     }
 
+    @Override
     public ConfigOptional<ConfigField> getField(@NotNull String path) {
+        return getField(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<ConfigField> getField(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? ConfigOptional.of(field) : notSet(path);
+    }
+
+    // The getters return the not set optional themselves instead of mapping the one of getScalar, so that it is
+    // created in a small method that is inlined in the caller and escape analysis can remove it, as in
+    // getInteger(path).orElse(0), even when findField itself is too big to be inlined
+    private <T> ConfigOptional<T> notSet(@NotNull ConfigPath path) {
+        return ConfigOptional.notSet(this, path.toString(), "Field is not set");
+    }
+
+    private @Nullable ConfigField findField(@NotNull ConfigPath path) {
+        PathIndex pathIndex = getPathIndex();
+        if (pathIndex != null) {
+            String indexKey = path.getIndexKey();
+            ConfigField field = indexKey != null ? pathIndex.get(indexKey) : null;
+            if (field != null) {
+                return field;
+            }
+        }
+        return walkPath(path);
+    }
+
+    private @Nullable ConfigField walkPath(@NotNull ConfigPath path) {
         final PathIterator iterator = PathIterator.of(this, path);
 
         ConfigField field = null;
@@ -460,80 +610,196 @@ public abstract class Section extends Branch implements ConfigSection {
             field = iterator.next();
         }
 
-        if (field == null) {
-            return ConfigOptional.notSet(this, path, "Field is not set");
-        }
-
-        return ConfigOptional.of(field);
+        return field;
     }
 
     @Override
     public ConfigOptional<ConfigScalar> getScalar(@NotNull String path) {
-        return getField(path).flatMap(ConfigField::toScalar);
+        return getScalar(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<ConfigScalar> getScalar(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toScalar() : notSet(path);
     }
 
     @Override
     public ConfigOptional<ConfigSection> getSection(@NotNull String path) {
-        return getField(path).flatMap(ConfigField::toSection);
+        return getSection(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<ConfigSection> getSection(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toSection() : notSet(path);
     }
 
     @Override
     public ConfigOptional<ConfigSequence> getSequence(@NotNull String path) {
-        return getField(path).flatMap(ConfigField::toSequence);
+        return getSequence(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<ConfigSequence> getSequence(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toSequence() : notSet(path);
     }
 
     @Override
     public ConfigOptional<ConfigLine> getLine(@NotNull String path) {
+        return getLine(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<ConfigLine> getLine(@NotNull ConfigPath path) {
         return getScalar(path).map(ConfigScalar::toLine);
     }
 
     @Override
     public ConfigOptional<ConfigLine> getLine(@NotNull String path, @NotNull LineStyle lineStyle) {
+        return getLine(ConfigPath.of(path), lineStyle);
+    }
+
+    @Override
+    public ConfigOptional<ConfigLine> getLine(@NotNull ConfigPath path, @NotNull LineStyle lineStyle) {
         return getScalar(path).map(scalar -> scalar.toLine(lineStyle));
     }
 
     @Override
     public ConfigOptional<Boolean> getBoolean(@NotNull String path) {
-        return getScalar(path).flatMap(ConfigScalar::toBoolean);
+        return getBoolean(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<Boolean> getBoolean(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toScalar().flatMap(ConfigScalar::toBoolean) : notSet(path);
     }
 
     @Override
     public ConfigOptional<Character> getCharacter(@NotNull String path) {
-        return getScalar(path).flatMap(ConfigScalar::toCharacter);
+        return getCharacter(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<Character> getCharacter(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toScalar().flatMap(ConfigScalar::toCharacter) : notSet(path);
     }
 
     @Override
     public @NotNull ConfigOptional<String> getString(@NotNull String path) {
-        return getScalar(path).map(ConfigScalar::toString);
+        return getString(ConfigPath.of(path));
+    }
+
+    @Override
+    public @NotNull ConfigOptional<String> getString(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toScalar().map(ConfigScalar::toString) : notSet(path);
     }
 
     @Override
     public @NotNull ConfigOptional<String> getString(@NotNull String path, @NotNull StringFormatter formatter) {
+        return getString(ConfigPath.of(path), formatter);
+    }
+
+    @Override
+    public @NotNull ConfigOptional<String> getString(@NotNull ConfigPath path, @NotNull StringFormatter formatter) {
         return getScalar(path).map(scalar -> formatter.format(scalar.toString()));
     }
 
     @Override
     public ConfigOptional<Integer> getInteger(@NotNull String path) {
-        return getScalar(path).flatMap(ConfigScalar::toInteger);
+        return getInteger(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<Integer> getInteger(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toScalar().flatMap(ConfigScalar::toInteger) : notSet(path);
     }
 
     @Override
     public ConfigOptional<Long> getLong(@NotNull String path) {
-        return getScalar(path).flatMap(ConfigScalar::toLong);
+        return getLong(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<Long> getLong(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toScalar().flatMap(ConfigScalar::toLong) : notSet(path);
     }
 
     @Override
     public ConfigOptional<Float> getFloat(@NotNull String path) {
-        return getScalar(path).flatMap(ConfigScalar::toFloat);
+        return getFloat(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<Float> getFloat(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toScalar().flatMap(ConfigScalar::toFloat) : notSet(path);
     }
 
     @Override
     public ConfigOptional<Double> getDouble(@NotNull String path) {
-        return getScalar(path).flatMap(ConfigScalar::toDouble);
+        return getDouble(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<Double> getDouble(@NotNull ConfigPath path) {
+        ConfigField field = findField(path);
+        return field != null ? field.toScalar().flatMap(ConfigScalar::toDouble) : notSet(path);
+    }
+
+    @Override
+    public boolean getBoolean(@NotNull String path, boolean def) {
+        return getBoolean(ConfigPath.of(path), def);
+    }
+
+    @Override
+    public boolean getBoolean(@NotNull ConfigPath path, boolean def) {
+        return findField(path) instanceof ConfigScalar scalar ? scalar.toBoolean(def) : def;
+    }
+
+    @Override
+    public int getInt(@NotNull String path, int def) {
+        return getInt(ConfigPath.of(path), def);
+    }
+
+    @Override
+    public int getInt(@NotNull ConfigPath path, int def) {
+        return findField(path) instanceof ConfigScalar scalar ? scalar.toInt(def) : def;
+    }
+
+    @Override
+    public long getLong(@NotNull String path, long def) {
+        return getLong(ConfigPath.of(path), def);
+    }
+
+    @Override
+    public long getLong(@NotNull ConfigPath path, long def) {
+        return findField(path) instanceof ConfigScalar scalar ? scalar.toLong(def) : def;
+    }
+
+    @Override
+    public double getDouble(@NotNull String path, double def) {
+        return getDouble(ConfigPath.of(path), def);
+    }
+
+    @Override
+    public double getDouble(@NotNull ConfigPath path, double def) {
+        return findField(path) instanceof ConfigScalar scalar ? scalar.toDouble(def) : def;
     }
 
     @Override
     public <T> ConfigList<T> getList(@NotNull String path, Class<T> classType) {
+        return getList(ConfigPath.of(path), classType);
+    }
+
+    @Override
+    public <T> ConfigList<T> getList(@NotNull ConfigPath path, Class<T> classType) {
         return getSequence(path).mapToList(sequence -> sequence.toList(classType));
     }
 
@@ -544,16 +810,31 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public ConfigList<ConfigScalar> getScalarList(@NotNull String path) {
+        return getScalarList(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigList<ConfigScalar> getScalarList(@NotNull ConfigPath path) {
         return getSequence(path).mapToList(ConfigSequence::toScalarList);
     }
 
     @Override
     public ConfigList<ConfigSection> getSectionList(@NotNull String path) {
+        return getSectionList(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigList<ConfigSection> getSectionList(@NotNull ConfigPath path) {
         return getSequence(path).mapToList(ConfigSequence::toSectionList);
     }
 
     @Override
     public ConfigList<Boolean> getBooleanList(@NotNull String path) {
+        return getBooleanList(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigList<Boolean> getBooleanList(@NotNull ConfigPath path) {
         return getSequence(path).mapToList(ConfigSequence::toBooleanList);
     }
 
@@ -564,6 +845,11 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public ConfigList<String> getStringList(@NotNull String path) {
+        return getStringList(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigList<String> getStringList(@NotNull ConfigPath path) {
         return getSequence(path).mapToList(ConfigSequence::toStringList);
     }
 
@@ -574,24 +860,74 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public ConfigList<Integer> getIntegerList(@NotNull String path) {
+        return getIntegerList(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigList<Integer> getIntegerList(@NotNull ConfigPath path) {
         return getSequence(path).mapToList(ConfigSequence::toIntegerList);
     }
 
     @Override
     public ConfigList<Long> getLongList(@NotNull String path) {
+        return getLongList(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigList<Long> getLongList(@NotNull ConfigPath path) {
         return getSequence(path).mapToList(ConfigSequence::toLongList);
     }
 
     @Override
     public ConfigList<Float> getFloatList(@NotNull String path) {
+        return getFloatList(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigList<Float> getFloatList(@NotNull ConfigPath path) {
         return getSequence(path).mapToList(ConfigSequence::toFloatList);
     }
 
     @Override
     public ConfigList<Double> getDoubleList(@NotNull String path) {
+        return getDoubleList(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigList<Double> getDoubleList(@NotNull ConfigPath path) {
         return getSequence(path).mapToList(ConfigSequence::toDoubleList);
     }
 
+    @Override
+    public ConfigOptional<int[]> getIntArray(@NotNull String path) {
+        return getIntArray(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<int[]> getIntArray(@NotNull ConfigPath path) {
+        return getSequence(path).flatMap(ConfigSequence::toIntArray);
+    }
+
+    @Override
+    public ConfigOptional<long[]> getLongArray(@NotNull String path) {
+        return getLongArray(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<long[]> getLongArray(@NotNull ConfigPath path) {
+        return getSequence(path).flatMap(ConfigSequence::toLongArray);
+    }
+
+    @Override
+    public ConfigOptional<double[]> getDoubleArray(@NotNull String path) {
+        return getDoubleArray(ConfigPath.of(path));
+    }
+
+    @Override
+    public ConfigOptional<double[]> getDoubleArray(@NotNull ConfigPath path) {
+        return getSequence(path).flatMap(ConfigSequence::toDoubleArray);
+    }
+
     private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
 
     @Override
@@ -634,13 +970,7 @@ public abstract class Section extends Branch implements ConfigSection {
     }
 
     private ConfigOptional<ConfigBranch> getBranch(@NotNull String path) {
-        PathIterator iterator = PathIterator.of(this, path);
-
-        ConfigField field = null;
-        while (iterator.hasNext()) {
-            field = iterator.next();
-        }
-
+        ConfigField field = findField(ConfigPath.of(path));
         if (field instanceof ConfigBranch branch) {
             return ConfigOptional.of(branch);
         }
@@ -648,7 +978,7 @@ public abstract class Section extends Branch implements ConfigSection {
         return ConfigOptional.notSet(this, path, "Field is not set");
     }
 
-    private Scalar createScalar(@NotNull String path, @NotNull Object value) {
+    private Scalar createScalar(@NotNull ConfigPath path, @NotNull Object value) {
         final PathIterator pathIterator = PathIterator.of(this, path);
         while (pathIterator.hasNext()) {
             if (pathIterator.isLast()) {
@@ -669,6 +999,10 @@ public abstract class Section extends Branch implements ConfigSection {
 
     @Override
     public void clear() {
+        PathIndex pathIndex = getRootPathIndex();
+        if (pathIndex != null) {
+            pathIndex.removeChildren(this);
+        }
         fieldsByKey.clear();
     }
 
@@ -0,0 +1,44 @@
+package io.github.pigaut.yaml.node.sequence;
+
+import io.github.pigaut.yaml.node.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+
+/**
+ * The fields of a frozen sequence.
+ */
+class FrozenFieldList extends AbstractList<KeylessField> implements RandomAccess {
+
+    private final KeylessField[] fields;
+
+    FrozenFieldList(@NotNull List<KeylessField> fields) {
+        this.fields = fields.toArray(new KeylessField[0]);
+    }
+
+    @Override
+    public KeylessField get(int index) {
+        return fields[index];
+    }
+
+    @Override
+    public int size() {
+        return fields.length;
+    }
+
+    @Override
+    public KeylessField set(int index, KeylessField element) {
+        throw new UnsupportedOperationException("Configuration is frozen");
+    }
+
+    @Override
+    public void add(int index, KeylessField element) {
+        throw new UnsupportedOperationException("Configuration is frozen");
+    }
+
+    @Override
+    public KeylessField remove(int index) {
+        throw new UnsupportedOperationException("Configuration is frozen");
+    }
+
+}
@@ -0,0 +1,162 @@
+package io.github.pigaut.yaml.node.sequence;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.*;
+import io.github.pigaut.yaml.node.scalar.*;
+import org.jetbrains.annotations.*;
+import org.snakeyaml.engine.v2.common.*;
+
+import java.util.*;
+
+/**
+ * The fields of a sequence of plain numbers of the same type, kept in a primitive array that is never written.
+ * Reading any element of a mutable sequence as a field moves the whole sequence to a regular list of scalars, which
+ * then replaces this list in the sequence, as does adding or removing elements, see {@link Sequence#packNumbers()}.
+ * The elements of a frozen sequence are read as new scalars, which cannot be changed.
+ */
+class PackedNumberList extends AbstractList<KeylessField> implements RandomAccess {
+
+    static final int MIN_SIZE = 8;
+
+    private final Sequence sequence;
+    private final int size;
+    // Only the array of the element type is set
+    private final int[] ints;
+    private final long[] longs;
+    private final double[] doubles;
+    private @Nullable List<KeylessField> unpacked = null;
+
+    private PackedNumberList(Sequence sequence, int size, int[] ints, long[] longs, double[] doubles) {
+        this.sequence = sequence;
+        this.size = size;
+        this.ints = ints;
+        this.longs = longs;
+        this.doubles = doubles;
+    }
+
+    static @Nullable PackedNumberList pack(@NotNull Sequence sequence, @NotNull List<KeylessField> fields) {
+        int size = fields.size();
+        if (size < MIN_SIZE) {
+            return null;
+        }
+
+        Class<?> type = null;
+        for (KeylessField field : fields) {
+            if (field.getClass() != KeylessScalar.class) {
+                return null;
+            }
+            ConfigScalar scalar = (ConfigScalar) field;
+            Class<?> valueType = scalar.getValue().getClass();
+            if (type == null) {
+                type = valueType;
+            }
+            if (valueType != type || scalar.getScalarStyle() != ScalarStyle.PLAIN
+                    || !scalar.getBlockComments().isEmpty() || !scalar.getInLineComments().isEmpty()) {
+                return null;
+            }
+        }
+
+        if (type == Integer.class) {
+            int[] ints = new int[size];
+            for (int i = 0; i < size; i++) {
+                ints[i] = (Integer) ((ConfigScalar) fields.get(i)).getValue();
+            }
+            return new PackedNumberList(sequence, size, ints, null, null);
+        }
+        if (type == Long.class) {
+            long[] longs = new long[size];
+            for (int i = 0; i < size; i++) {
+                longs[i] = (Long) ((ConfigScalar) fields.get(i)).getValue();
+            }
+            return new PackedNumberList(sequence, size, null, longs, null);
+        }
+        if (type == Double.class) {
+            double[] doubles = new double[size];
+            for (int i = 0; i < size; i++) {
+                doubles[i] = (Double) ((ConfigScalar) fields.get(i)).getValue();
+            }
+            return new PackedNumberList(sequence, size, null, null, doubles);
+        }
+        return null;
+    }
+
+    boolean isInts() {
+        return ints != null;
+    }
+
+    boolean isLongs() {
+        return doubles == null;
+    }
+
+    int getInt(int index) {
+        return ints[index];
+    }
+
+    long getLong(int index) {
+        return ints != null ? ints[index] : longs[index];
+    }
+
+    double getDouble(int index) {
+        if (ints != null) {
+            return ints[index];
+        }
+        return longs != null ? longs[index] : doubles[index];
+    }
+
+    @NotNull Object getValue(int index) {
+        if (ints != null) {
+            return ints[index];
+        }
+        if (longs != null) {
+            return longs[index];
+        }
+        return doubles[index];
+    }
+
+    // The arrays are never written, so the numbers of a frozen sequence are shared with its copies
+    @NotNull PackedNumberList share(@NotNull Sequence sequence) {
+        return new PackedNumberList(sequence, size, ints, longs, doubles);
+    }
+
+    @Override
+    public KeylessField get(int index) {
+        List<KeylessField> unpacked = this.unpacked;
+        if (unpacked != null) {
+            return unpacked.get(index);
+        }
+        // A frozen sequence cannot be changed, so its elements are read as new scalars and the arrays stay shared
+        if (sequence.isRootFrozen()) {
+            Objects.checkIndex(index, size);
+            return new KeylessScalar(sequence, index, getValue(index));
+        }
+        return unpack().get(index);
+    }
+
+    @Override
+    public KeylessField set(int index, KeylessField field) {
+        return unpack().set(index, field);
+    }
+
+    // Iterators or callers that still hold this list read and write the unpacked list from then on
+    @NotNull List<KeylessField> unpack() {
+        List<KeylessField> unpacked = this.unpacked;
+        if (unpacked == null) {
+            if (sequence.isRootFrozen()) {
+                throw new UnsupportedOperationException("Configuration is frozen");
+            }
+            unpacked = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                unpacked.add(new KeylessScalar(sequence, i, getValue(i)));
+            }
+            this.unpacked = unpacked;
+            sequence.replacePackedFields(this, unpacked);
+        }
+        return unpacked;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
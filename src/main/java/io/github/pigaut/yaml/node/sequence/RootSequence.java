@@ -13,14 +13,17 @@ import org.snakeyaml.engine.v2.nodes.*;
 import java.io.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 public class RootSequence extends Sequence implements ConfigRoot {
 
-    private final ConfigLoad loader = new ConfigLoad();
+    private ConfigLoad loader = new ConfigLoad();
     private final ConfigDump dumper = new ConfigDump();
+    private final ConfigSave saver = new ConfigSave();
     private Configurator configurator;
     private String header = "";
+    private boolean frozen = false;
     private boolean multiDocument = false;
 
     private final @Nullable File file;
@@ -71,6 +74,7 @@ public class RootSequence extends Sequence implements ConfigRoot {
 
     @Override
     public void setPrefix(@Nullable String prefix) {
+        checkMutable();
         this.prefix = prefix;
     }
 
@@ -81,6 +85,7 @@ public class RootSequence extends Sequence implements ConfigRoot {
 
     @Override
     public void setConfigurator(@NotNull Configurator configurator) {
+        checkMutable();
         this.configurator = configurator;
     }
 
@@ -106,9 +111,36 @@ public class RootSequence extends Sequence implements ConfigRoot {
 
     @Override
     public void setHeader(@NotNull String... lines) {
+        checkMutable();
         this.header = YamlConfig.createHeader(lines);
     }
 
+    @Override
+    public @NotNull LoadProfile getLoadProfile() {
+        return loader.getProfile();
+    }
+
+    @Override
+    public void setLoadProfile(@NotNull LoadProfile profile) {
+        checkMutable();
+        if (profile != loader.getProfile()) {
+            loader = new ConfigLoad(profile, loader.getCodePointLimit());
+        }
+    }
+
+    @Override
+    public int getCodePointLimit() {
+        return loader.getCodePointLimit();
+    }
+
+    @Override
+    public void setCodePointLimit(int codePointLimit) {
+        checkMutable();
+        if (codePointLimit != loader.getCodePointLimit()) {
+            loader = new ConfigLoad(loader.getProfile(), codePointLimit);
+        }
+    }
+
     @Override
     public void load() throws ConfigLoadException {
         Preconditions.checkState(file != null, "Cannot load configuration from file because file is null");
@@ -133,7 +165,9 @@ public class RootSequence extends Sequence implements ConfigRoot {
         try (FileInputStream fileInputStream = new FileInputStream(file);
              InputStreamReader inputStreamReader = new InputStreamReader(fileInputStream, StandardCharsets.UTF_8);
              BufferedReader reader = new BufferedReader(inputStreamReader)) {
-            loadFromReader(reader);
+            HashingReader hashingReader = new HashingReader(reader);
+            loadFromReader(hashingReader);
+            saver.setSavedState(file, hashingReader.getHash());
         } catch (IOException e) {
             throw new ConfigLoadException(this, e.getMessage());
         }
@@ -141,6 +175,7 @@ public class RootSequence extends Sequence implements ConfigRoot {
 
     @Override
     public void loadFromStream(@NotNull InputStream inputStream) throws ConfigLoadException {
+        checkMutable();
         List<Node> documents = new ArrayList<>();
         try {
             loader.loadAllFromInputStream(inputStream).forEach(documents::add);
@@ -152,6 +187,7 @@ public class RootSequence extends Sequence implements ConfigRoot {
 
     @Override
     public void loadFromReader(@NotNull Reader reader) throws ConfigLoadException {
+        checkMutable();
         List<Node> documents = new ArrayList<>();
         try {
             loader.loadAllFromReader(reader).forEach(documents::add);
@@ -161,6 +197,58 @@ public class RootSequence extends Sequence implements ConfigRoot {
         loadDocuments(documents);
     }
 
+    @Override
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    @Override
+    public @NotNull RootSequence freeze() {
+        if (frozen) {
+            return this;
+        }
+        RootSequence frozenSequence = thaw();
+        frozenSequence.freezeNode(new HashMap<>());
+        frozenSequence.frozen = true;
+        return frozenSequence;
+    }
+
+    @Override
+    public @NotNull RootSequence thaw() {
+        RootSequence copy = new RootSequence(file, configurator, prefix);
+        copy.header = header;
+        copy.loader = loader;
+        copy.multiDocument = multiDocument;
+        ConfigFreezer.copy(this, copy);
+        return copy;
+    }
+
+    /**
+     * Returns a mutable root with the settings of this frozen root that shares its fields. The shared fields stay
+     * frozen, {@link ConfigFreezer#copyPath} replaces the ones on a path by copies that can be modified.
+     */
+    public @NotNull RootSequence copyShared() {
+        Preconditions.checkState(frozen, "Only frozen configurations can share their fields");
+        RootSequence copy = new RootSequence(file, configurator, prefix);
+        copy.header = header;
+        copy.loader = loader;
+        copy.multiDocument = multiDocument;
+        copy.saver.copySavedState(saver);
+        copy.setFlowStyle(getFlowStyle());
+        copy.setBlockComments(getBlockComments());
+        copy.setInLineComments(getInLineComments());
+        copy.shareNodes(this);
+        return copy;
+    }
+
+    // Freezes a root returned by copyShared in place, the fields it still shares are frozen already
+    public @NotNull RootSequence freezeShared() {
+        Preconditions.checkState(!frozen, "Configuration is already frozen");
+        freezeNode(new HashMap<>());
+        frozen = true;
+        return this;
+    }
+
     @Override
     public boolean save() {
         if (file == null) {
@@ -171,18 +259,56 @@ public class RootSequence extends Sequence implements ConfigRoot {
 
     @Override
     public boolean save(@NotNull File file) {
-        if (!YamlConfig.createFileIfNotExists(file)) {
-            return false;
+        checkSavable();
+        return saver.save(this, file);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> saveAsync() {
+        if (file == null) {
+            throw new IllegalStateException("You cannot save configuration to file because file is null");
+        }
+        checkSavable();
+        return ConfigSaveScheduler.getDefault().schedule(this, () -> ConfigSave.snapshot(this),
+                content -> saver.save(content, file));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Boolean> saveAsync(@NotNull Executor ownerExecutor) {
+        if (file == null) {
+            throw new IllegalStateException("You cannot save configuration to file because file is null");
         }
+        checkSavable();
+        return ConfigSaveScheduler.getDefault().schedule(this, ownerExecutor, () -> ConfigSave.snapshot(this),
+                content -> saver.save(content, file));
+    }
 
-        String yamlData = saveToString();
+    @Override
+    public @NotNull ConfigSave getSaveState() {
+        return saver;
+    }
 
-        try (FileWriter writer = new FileWriter(file)) {
-            writer.write(yamlData);
-            return true;
-        } catch (IOException e) {
-            return false;
+    // Comments are not parsed by a read only profile, so saving would strip them from the file
+    private void checkSavable() {
+        Preconditions.checkState(loader.getProfile().isParseComments(),
+                "Cannot save configuration because it was loaded without comments");
+    }
+
+    @Override
+    public void saveTo(@NotNull Appendable output) throws IOException {
+        output.append(header);
+        if (isMultiDocument()) {
+            dumper.dumpAll(this.iterator(), output);
+            return;
         }
+        dumper.dump(this, output);
+    }
+
+    @Override
+    public void saveTo(@NotNull OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        saveTo(writer);
+        writer.flush();
     }
 
     @Override
@@ -227,6 +353,7 @@ public class RootSequence extends Sequence implements ConfigRoot {
     }
 
     public void setMultiDocument(boolean multiDocument) {
+        checkMutable();
         this.multiDocument = multiDocument;
     }
 
@@ -19,7 +19,7 @@ import java.util.stream.*;
 
 public abstract class Sequence extends Branch implements ConfigSequence {
 
-    private final List<@NotNull KeylessField> fields = new ArrayList<>();
+    private List<@NotNull KeylessField> fields = new ArrayList<>();
 
     protected Sequence(@NotNull FlowStyle flowStyle) {
         super(flowStyle);
@@ -37,7 +37,48 @@ public abstract class Sequence extends Branch implements ConfigSequence {
         while (index >= size()) {
             add("");
         }
-        fields.set(index, node);
+        KeylessField previousField = fields.set(index, node);
+        PathIndex pathIndex = getRootPathIndex();
+        if (pathIndex != null) {
+            if (previousField != node) {
+                pathIndex.removeField(this, (Field) previousField, index);
+            }
+            pathIndex.addField(this, (Field) node, index);
+        }
+    }
+
+    // Fields shared with a frozen sequence keep it as their parent, see ConfigFreezer#copyPath
+    public void shareNodes(Sequence source) {
+        if (source.fields instanceof PackedNumberList packed) {
+            fields = packed.share(this);
+            return;
+        }
+        fields = new ArrayList<>(source.fields);
+    }
+
+    // The copy holds the same fields as the field it replaces, so only the index entry of the copy changes
+    public void replaceNode(KeylessField copy) {
+        int index = copy.getIndex();
+        fields.set(index, copy);
+        PathIndex pathIndex = getRootPathIndex();
+        if (pathIndex != null) {
+            pathIndex.replaceField(this, (Field) copy, index);
+        }
+    }
+
+    // Fields shared with another frozen sequence are frozen already
+    @Override
+    public void freezeNode(@NotNull Map<Object, Object> canonicalValues) {
+        super.freezeNode(canonicalValues);
+        if (fields instanceof PackedNumberList) {
+            return;
+        }
+        for (KeylessField field : fields) {
+            if (((Field) field).getParent() == this) {
+                ((Field) field).freezeNode(canonicalValues);
+            }
+        }
+        fields = new FrozenFieldList(fields);
     }
 
     @Override
@@ -77,7 +118,7 @@ public abstract class Sequence extends Branch implements ConfigSequence {
 
         var classType = value.getClass();
         if (YamlConfig.isScalarType(classType)) {
-            fields.add(new KeylessScalar(this, size(), value));
+            addField(new KeylessScalar(this, size(), value));
             return;
         }
 
@@ -263,11 +304,20 @@ public abstract class Sequence extends Branch implements ConfigSequence {
 
     @Override
     public void remove(int index) {
+        Objects.checkIndex(index, size());
+        PathIndex pathIndex = getRootPathIndex();
+        if (pathIndex != null) {
+            pathIndex.removeChildren(this);
+        }
+        unpackNumbers();
         fields.remove(index);
-        for (int i = 0; i < size(); i++) {
+        for (int i = index; i < size(); i++) {
             KeylessField field = fields.get(i);
             field.setIndex(i);
         }
+        if (pathIndex != null) {
+            pathIndex.addChildren(this);
+        }
     }
 
     @Override
@@ -309,21 +359,21 @@ public abstract class Sequence extends Branch implements ConfigSequence {
     @Override
     public @NotNull ConfigSection addEmptySection() {
         KeylessSection childSection = new KeylessSection(this, size());
-        fields.add(childSection);
+        addField(childSection);
         return childSection;
     }
 
     @Override
     public @NotNull ConfigSequence addEmptySequence() {
         KeylessSequence childSequence = new KeylessSequence(this, size());
-        fields.add(childSequence);
+        addField(childSequence);
         return childSequence;
     }
 
     @Override
     public @NotNull ConfigScalar addEmptyScalar() {
         KeylessScalar childScalar = new KeylessScalar(this, size(), "");
-        fields.add(childScalar);
+        addField(childScalar);
         return childScalar;
     }
 
@@ -475,6 +525,35 @@ public abstract class Sequence extends Branch implements ConfigSequence {
         return getScalar(index).flatMap(ConfigScalar::toDouble);
     }
 
+    @Override
+    public boolean getBoolean(int index, boolean def) {
+        return getNode(index) instanceof ConfigScalar scalar ? scalar.toBoolean(def) : def;
+    }
+
+    @Override
+    public int getInt(int index, int def) {
+        if (fields instanceof PackedNumberList packed && index >= 0 && index < packed.size() && packed.isInts()) {
+            return packed.getInt(index);
+        }
+        return getNode(index) instanceof ConfigScalar scalar ? scalar.toInt(def) : def;
+    }
+
+    @Override
+    public long getLong(int index, long def) {
+        if (fields instanceof PackedNumberList packed && index >= 0 && index < packed.size() && packed.isLongs()) {
+            return packed.getLong(index);
+        }
+        return getNode(index) instanceof ConfigScalar scalar ? scalar.toLong(def) : def;
+    }
+
+    @Override
+    public double getDouble(int index, double def) {
+        if (fields instanceof PackedNumberList packed && index >= 0 && index < packed.size()) {
+            return packed.getDouble(index);
+        }
+        return getNode(index) instanceof ConfigScalar scalar ? scalar.toDouble(def) : def;
+    }
+
     @Override
     public List<ConfigField> toFieldList() {
         return new ArrayList<>(fields);
@@ -540,6 +619,138 @@ public abstract class Sequence extends Branch implements ConfigSequence {
         return createList(field -> field.toScalar().flatMap(ConfigScalar::toDouble).orThrow());
     }
 
+    @Override
+    public ConfigOptional<int[]> toIntArray() {
+        PackedNumberList packed = fields instanceof PackedNumberList packedList ? packedList : null;
+        int[] array = new int[size()];
+        InvalidIndexes invalidIndexes = new InvalidIndexes();
+        for (int i = 0; i < array.length; i++) {
+            if (packed != null && packed.isInts()) {
+                array[i] = packed.getInt(i);
+                continue;
+            }
+            if (fields.get(i) instanceof ConfigScalar scalar) {
+                Object value = scalar.getValue();
+                if (ScalarUtil.isInteger(value)) {
+                    array[i] = ((Number) value).intValue();
+                    continue;
+                }
+                ConfigOptional<Integer> parsed = scalar.toInteger();
+                if (parsed.isValid()) {
+                    array[i] = parsed.value();
+                    continue;
+                }
+            }
+            invalidIndexes.add(i);
+        }
+        return invalidIndexes.isEmpty() ? ConfigOptional.of(this, array) : invalidIndexes.toOptional(this, "integers");
+    }
+
+    @Override
+    public ConfigOptional<long[]> toLongArray() {
+        PackedNumberList packed = fields instanceof PackedNumberList packedList ? packedList : null;
+        long[] array = new long[size()];
+        InvalidIndexes invalidIndexes = new InvalidIndexes();
+        for (int i = 0; i < array.length; i++) {
+            if (packed != null && packed.isLongs()) {
+                array[i] = packed.getLong(i);
+                continue;
+            }
+            if (fields.get(i) instanceof ConfigScalar scalar) {
+                Object value = scalar.getValue();
+                if (ScalarUtil.isLong(value)) {
+                    array[i] = ((Number) value).longValue();
+                    continue;
+                }
+                ConfigOptional<Long> parsed = scalar.toLong();
+                if (parsed.isValid()) {
+                    array[i] = parsed.value();
+                    continue;
+                }
+            }
+            invalidIndexes.add(i);
+        }
+        return invalidIndexes.isEmpty() ? ConfigOptional.of(this, array) : invalidIndexes.toOptional(this, "longs");
+    }
+
+    @Override
+    public ConfigOptional<double[]> toDoubleArray() {
+        PackedNumberList packed = fields instanceof PackedNumberList packedList ? packedList : null;
+        double[] array = new double[size()];
+        InvalidIndexes invalidIndexes = new InvalidIndexes();
+        for (int i = 0; i < array.length; i++) {
+            if (packed != null) {
+                array[i] = packed.getDouble(i);
+                continue;
+            }
+            if (fields.get(i) instanceof ConfigScalar scalar) {
+                Object value = scalar.getValue();
+                if (ScalarUtil.isDouble(value)) {
+                    array[i] = ((Number) value).doubleValue();
+                    continue;
+                }
+                ConfigOptional<Double> parsed = scalar.toDouble();
+                if (parsed.isValid()) {
+                    array[i] = parsed.value();
+                    continue;
+                }
+            }
+            invalidIndexes.add(i);
+        }
+        return invalidIndexes.isEmpty() ? ConfigOptional.of(this, array) : invalidIndexes.toOptional(this, "doubles");
+    }
+
+    /**
+     * Moves the elements to a primitive array if there are enough of them and they are all plain numbers of the same
+     * type without comments. Sequences that are frozen or indexed by path are left as they are.
+     */
+    public void packNumbers() {
+        ConfigRoot root = getCachedRoot();
+        if (fields instanceof PackedNumberList || root.isFrozen() || PathIndex.of(root) != null) {
+            return;
+        }
+        PackedNumberList packed = PackedNumberList.pack(this, fields);
+        if (packed != null) {
+            fields = packed;
+        }
+    }
+
+    /**
+     * Gives this empty sequence the packed numbers of the source, if its elements are packed and this sequence is not
+     * indexed by path. Returns whether the numbers were shared, the elements have to be copied one by one otherwise.
+     */
+    public boolean sharePackedNumbers(@NotNull Sequence source) {
+        if (!(source.fields instanceof PackedNumberList packed) || PathIndex.of(getCachedRoot()) != null) {
+            return false;
+        }
+        fields = packed.share(this);
+        return true;
+    }
+
+    /**
+     * Returns the value of an element that is kept in a primitive array, so it can be written without creating
+     * its scalar. Returns null if the elements are not packed, or no longer are because one was read as a field.
+     */
+    public @Nullable Object getPackedValue(int index) {
+        return fields instanceof PackedNumberList packed ? packed.getValue(index) : null;
+    }
+
+    private void unpackNumbers() {
+        if (fields instanceof PackedNumberList packed) {
+            fields = packed.unpack();
+        }
+    }
+
+    boolean isRootFrozen() {
+        return getCachedRoot().isFrozen();
+    }
+
+    void replacePackedFields(PackedNumberList packed, List<KeylessField> unpacked) {
+        if (fields == packed) {
+            fields = unpacked;
+        }
+    }
+
     @Override
     public @NotNull ConfigSequence copy() {
         ConfigRoot root = getRoot();
@@ -568,9 +779,23 @@ public abstract class Sequence extends Branch implements ConfigSequence {
 
     @Override
     public void clear() {
+        PathIndex pathIndex = getRootPathIndex();
+        if (pathIndex != null) {
+            pathIndex.removeChildren(this);
+        }
+        unpackNumbers();
         fields.clear();
     }
 
+    private void addField(KeylessField field) {
+        unpackNumbers();
+        fields.add(field);
+        PathIndex pathIndex = getRootPathIndex();
+        if (pathIndex != null) {
+            pathIndex.addField(this, (Field) field, field.getIndex());
+        }
+    }
+
     @Override
     public @NotNull Object getValue() {
         return toList();
@@ -640,4 +865,40 @@ public abstract class Sequence extends Branch implements ConfigSequence {
         return builder.toString();
     }
 
+    // Collects the elements that could not be read into an array, so a single error names all of them
+    private static class InvalidIndexes {
+
+        private static final int MAX_LISTED = 10;
+
+        private @Nullable StringBuilder listed = null;
+        private int count = 0;
+
+        private void add(int index) {
+            if (listed == null) {
+                listed = new StringBuilder();
+            }
+            if (count < MAX_LISTED) {
+                if (count > 0) {
+                    listed.append(", ");
+                }
+                // Positions start at 1, like the paths of invalid config errors
+                listed.append(index + 1);
+            }
+            count++;
+        }
+
+        private boolean isEmpty() {
+            return count == 0;
+        }
+
+        private <T> ConfigOptional<T> toOptional(Sequence sequence, String expected) {
+            String details = "Expected " + expected + " but found " + count + " invalid values at positions " + listed;
+            if (count > MAX_LISTED) {
+                details += " and " + (count - MAX_LISTED) + " more";
+            }
+            return ConfigOptional.invalid(sequence, details);
+        }
+
+    }
+
 }
@@ -0,0 +1,135 @@
+package io.github.pigaut.yaml.path;
+
+import io.github.pigaut.yaml.util.*;
+import org.jetbrains.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+/**
+ * An immutable, pre-parsed config path such as {@code "rewards.min|minimum"} or {@code "items[2].name"}.
+ * Parsed paths are interned in a bounded cache, so repeated lookups with the same path string
+ * only pay for the parsing once. Callers on hot paths can also hold on to a path in a constant.
+ */
+public final class ConfigPath {
+
+    private static final int MAX_CACHE_SIZE = 4096;
+    private static final Map<String, ConfigPath> CACHE = new ConcurrentHashMap<>();
+
+    private final String path;
+    private final @Nullable String indexKey;
+    final FieldKey[] keys;
+
+    private ConfigPath(@NotNull String path, @NotNull FieldKey[] keys) {
+        this.path = path;
+        this.keys = keys;
+        String indexKey = createIndexKey(keys);
+        this.indexKey = path.equals(indexKey) ? path : indexKey;
+    }
+
+    public static @NotNull ConfigPath of(@NotNull String path) {
+        Preconditions.checkNotNull(path, "Path cannot be null");
+        ConfigPath configPath = CACHE.get(path);
+        if (configPath != null) {
+            return configPath;
+        }
+
+        configPath = parse(path);
+        if (CACHE.size() >= MAX_CACHE_SIZE) {
+            CACHE.clear();
+        }
+        CACHE.put(path, configPath);
+        return configPath;
+    }
+
+    public static @NotNull ConfigPath parse(@NotNull String path) {
+        Preconditions.checkNotNull(path, "Path cannot be null");
+        return new ConfigPath(path, parseKeys(path));
+    }
+
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    public @NotNull List<FieldKey> getKeys() {
+        return List.of(keys);
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public @NotNull FieldKey getLastKey() {
+        return keys[keys.length - 1];
+    }
+
+    /**
+     * Returns this path as it is written in a {@link io.github.pigaut.yaml.node.PathIndex}, or null if the path
+     * has alternative keys and cannot be looked up in one.
+     */
+    public @Nullable String getIndexKey() {
+        return indexKey;
+    }
+
+    private static @Nullable String createIndexKey(FieldKey[] keys) {
+        StringBuilder builder = new StringBuilder();
+        for (FieldKey key : keys) {
+            if (key instanceof IndexKey indexKey) {
+                builder.append('[').append(indexKey.getIndex()).append(']');
+                continue;
+            }
+            if (!(key instanceof SimpleKey simpleKey)) {
+                return null;
+            }
+            if (builder.length() > 0) {
+                builder.append('.');
+            }
+            builder.append(simpleKey.getKey());
+        }
+        return builder.toString();
+    }
+
+    private static FieldKey[] parseKeys(String path) {
+        List<FieldKey> keys = new ArrayList<>();
+        final String[] rawKeys = path.split("\\.");
+        for (String rawKey : rawKeys) {
+            final Matcher indicesMatcher = PathFormatter.INDEX_PATTERN.matcher(rawKey);
+            if (indicesMatcher.matches()) {
+                keys.add(IndexKey.fromString(indicesMatcher.group(1)));
+                continue;
+            }
+
+            final String keyWithoutIndices = indicesMatcher.replaceAll("");
+            final String[] aliases = keyWithoutIndices.split("\\|");
+
+            keys.add(aliases.length > 1 ? new MultiKey(aliases) : new SimpleKey(keyWithoutIndices));
+
+            indicesMatcher.reset();
+            while (indicesMatcher.find()) {
+                keys.add(IndexKey.fromString(indicesMatcher.group(1)));
+            }
+        }
+
+        Preconditions.checkArgument(!keys.isEmpty(), "Path must have at least one key");
+        return keys.toArray(new FieldKey[0]);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) return true;
+        if (!(object instanceof ConfigPath that)) return false;
+        return path.equals(that.path);
+    }
+
+    @Override
+    public int hashCode() {
+        return path.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+}
@@ -25,6 +25,10 @@ public class IndexKey implements FieldKey {
         }
     }
 
+    public int getIndex() {
+        return index;
+    }
+
     @Override
     public ConfigField getField(@NotNull Branch branch) {
         if (branch instanceof Sequence sequence) {
@@ -9,22 +9,31 @@ import java.util.*;
 
 public class PathIterator implements Iterator<Object> {
 
-    private final List<FieldKey> keys;
+    private final FieldKey[] keys;
     private Branch currentBranch;
     private int pointer = 0;
 
     public PathIterator(Branch branch, List<FieldKey> keys) {
         Preconditions.checkArgument(!keys.isEmpty(), "Keys must have at least one element");
         this.currentBranch = branch;
-        this.keys = keys;
+        this.keys = keys.toArray(new FieldKey[0]);
+    }
+
+    public PathIterator(Branch branch, ConfigPath path) {
+        this.currentBranch = branch;
+        this.keys = path.keys;
     }
 
     public static PathIterator of(@NotNull Branch parent, @NotNull String path) {
-        return new PathIterator(parent, FieldKey.keysOf(path));
+        return new PathIterator(parent, ConfigPath.of(path));
+    }
+
+    public static PathIterator of(@NotNull Branch parent, @NotNull ConfigPath path) {
+        return new PathIterator(parent, path);
     }
 
     public boolean hasNext() {
-        return pointer < keys.size();
+        return pointer < keys.length;
     }
 
     @Nullable
@@ -37,7 +46,7 @@ public class PathIterator implements Iterator<Object> {
             return null;
         }
 
-        ConfigField field = keys.get(pointer++).getField(currentBranch);
+        ConfigField field = keys[pointer++].getField(currentBranch);
         if (field instanceof Branch branch) {
             currentBranch = branch;
         }
@@ -55,7 +64,7 @@ public class PathIterator implements Iterator<Object> {
             throw new IllegalStateException("Current branch is null.");
         }
 
-        FieldKey currentKey = keys.get(pointer);
+        FieldKey currentKey = keys[pointer];
         pointer++;
 
         ConfigField existingField = currentKey.getField(currentBranch);
@@ -74,7 +83,7 @@ public class PathIterator implements Iterator<Object> {
     }
 
     public boolean isLast() {
-        return pointer + 1 >= keys.size();
+        return pointer + 1 >= keys.length;
     }
 
     public @Nullable Branch getCurrentBranch() {
@@ -82,15 +91,15 @@ public class PathIterator implements Iterator<Object> {
     }
 
     public FieldKey getNextKey() {
-        return keys.get(pointer + 1);
+        return keys[pointer + 1];
     }
 
     public FieldKey getCurrentKey() {
-        return keys.get(pointer);
+        return keys[pointer];
     }
 
     public FieldKey getLastKey() {
-        return keys.get(keys.size() - 1);
+        return keys[keys.length - 1];
     }
 
 }
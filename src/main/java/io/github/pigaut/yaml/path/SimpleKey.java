@@ -17,6 +17,10 @@ public class SimpleKey implements FieldKey {
         this.key = key;
     }
 
+    public @NotNull String getKey() {
+        return key;
+    }
+
     @Override
     public ConfigField getField(@NotNull Branch branch) {
         if (branch instanceof Section section) {
@@ -10,13 +10,24 @@ public class AbstractOptional<T> {
 
     protected final ConfigField field;
     protected final T value;
-    protected final InvalidConfigException exception;
     protected final boolean existsInConfig;
 
+    // The exception is only created when it is first requested, the error details are kept until then. Later
+    // requests return the same exception, so changes made to it are kept. This is a single thread cache, like the
+    // values memoized by scalars: an optional whose exception has not been created must not be read from several
+    // threads at once, since they could each create one or see one that is not fully built
+    private @Nullable InvalidConfigException exception;
+    private final @Nullable String errorKey;
+    private final int errorIndex;
+    private final @Nullable String errorDetails;
+
     protected AbstractOptional(@NotNull ConfigField field, @NotNull T value, boolean existsInConfig) {
         this.field = field;
         this.value = value;
         this.exception = null;
+        this.errorKey = null;
+        this.errorIndex = -1;
+        this.errorDetails = null;
         this.existsInConfig = existsInConfig;
     }
 
@@ -24,9 +35,47 @@ public class AbstractOptional<T> {
         this.field = field;
         this.value = null;
         this.exception = exception;
+        this.errorKey = null;
+        this.errorIndex = -1;
+        this.errorDetails = exception.getDetails();
         this.existsInConfig = existsInConfig;
     }
 
+    protected AbstractOptional(@NotNull ConfigField field, @Nullable String errorKey, int errorIndex,
+                               @NotNull String errorDetails, boolean existsInConfig) {
+        this.field = field;
+        this.value = null;
+        this.exception = null;
+        this.errorKey = errorKey;
+        this.errorIndex = errorIndex;
+        this.errorDetails = errorDetails;
+        this.existsInConfig = existsInConfig;
+    }
+
+    protected AbstractOptional(@NotNull AbstractOptional<?> invalid) {
+        this.field = invalid.field;
+        this.value = null;
+        this.exception = invalid.exception;
+        this.errorKey = invalid.errorKey;
+        this.errorIndex = invalid.errorIndex;
+        this.errorDetails = invalid.errorDetails;
+        this.existsInConfig = invalid.existsInConfig;
+    }
+
+    protected @NotNull InvalidConfigException exception() {
+        if (exception == null) {
+            Preconditions.checkState(errorDetails != null, "There is no error in this config optional.");
+            if (errorKey != null) {
+                exception = new InvalidConfigException(field, errorKey, errorDetails);
+            } else if (errorIndex >= 0) {
+                exception = new InvalidConfigException(field, errorIndex, errorDetails);
+            } else {
+                exception = new InvalidConfigException(field, errorDetails);
+            }
+        }
+        return exception;
+    }
+
     public ConfigField field() {
         return field;
     }
@@ -39,10 +88,10 @@ public class AbstractOptional<T> {
     }
 
     public @NotNull InvalidConfigException error() throws NoSuchElementException {
-        if (exception == null) {
+        if (value != null) {
             throw new NoSuchElementException("No exception is present in config optional.");
         }
-        return exception;
+        return exception();
     }
 
     public boolean existsInConfig() {
@@ -54,7 +103,7 @@ public class AbstractOptional<T> {
     }
 
     public boolean isInvalid() {
-        return exception != null;
+        return value == null;
     }
 
     public void ifValid(Consumer<? super T> action) throws InvalidConfigException {
@@ -62,7 +111,7 @@ public class AbstractOptional<T> {
             action.accept(value);
         }
         else if (existsInConfig()) {
-            throw exception;
+            throw exception();
         }
     }
 
@@ -71,7 +120,7 @@ public class AbstractOptional<T> {
             action.accept(value);
         }
         else if (existsInConfig()) {
-            errorCollector.accept(exception);
+            errorCollector.accept(exception());
         }
     }
 
@@ -87,12 +136,12 @@ public class AbstractOptional<T> {
         if (isValid()) {
             throw new IllegalStateException("There is no error in this config optional.");
         }
-        errorCollector.accept(exception);
+        errorCollector.accept(exception());
     }
 
     public @NotNull T orThrow() throws InvalidConfigException {
-        if (exception != null) {
-            throw exception;
+        if (value == null) {
+            throw exception();
         }
         return value;
     }
@@ -102,7 +151,7 @@ public class AbstractOptional<T> {
             return value;
         }
         else if (existsInConfig()) {
-            throw exception;
+            throw exception();
         }
         return defaultValue;
     }
@@ -112,7 +161,7 @@ public class AbstractOptional<T> {
             return value;
         }
         else if (existsInConfig()) {
-            errorCollector.accept(exception);
+            errorCollector.accept(exception());
         }
         return defaultValue;
     }
@@ -125,12 +174,13 @@ public class AbstractOptional<T> {
     public boolean equals(Object object) {
         if (this == object) return true;
         if (!(object instanceof AbstractOptional<?> that)) return false;
-        return existsInConfig == that.existsInConfig && Objects.equals(field, that.field) && Objects.equals(value, that.value) && Objects.equals(exception, that.exception);
+        return existsInConfig == that.existsInConfig && Objects.equals(field, that.field) && Objects.equals(value, that.value)
+                && Objects.equals(errorKey, that.errorKey) && errorIndex == that.errorIndex && Objects.equals(errorDetails, that.errorDetails);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(field, value, exception, existsInConfig);
+        return Objects.hash(field, value, errorKey, errorIndex, errorDetails, existsInConfig);
     }
 
 }
@@ -0,0 +1,42 @@
+package io.github.pigaut.yaml.util;
+
+import org.jetbrains.annotations.*;
+
+import java.lang.reflect.*;
+import java.util.concurrent.*;
+
+public class ConfigExecutors {
+
+    private ConfigExecutors() {}
+
+    public static @NotNull Executor workStealingExecutor() {
+        return WorkStealingHolder.EXECUTOR;
+    }
+
+    // Virtual threads need Java 21, on older runtimes the work stealing executor is used instead
+    public static @NotNull Executor virtualThreadExecutor() {
+        return VirtualThreadHolder.EXECUTOR;
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return VirtualThreadHolder.EXECUTOR != WorkStealingHolder.EXECUTOR;
+    }
+
+    private static class WorkStealingHolder {
+        private static final Executor EXECUTOR = Executors.newWorkStealingPool();
+    }
+
+    private static class VirtualThreadHolder {
+        private static final Executor EXECUTOR = createVirtualThreadExecutor();
+
+        private static Executor createVirtualThreadExecutor() {
+            try {
+                Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+                return (Executor) factory.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                return WorkStealingHolder.EXECUTOR;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.github.pigaut.yaml.util;
+
+import org.jetbrains.annotations.*;
+
+/**
+ * 64-bit FNV-1a hash of the characters appended to it, used to detect unchanged file contents.
+ */
+public class ContentHash implements Appendable {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private long hash = OFFSET_BASIS;
+
+    public long getValue() {
+        return hash;
+    }
+
+    public void update(char[] chars, int offset, int length) {
+        long hash = this.hash;
+        for (int i = offset; i < offset + length; i++) {
+            hash = (hash ^ chars[i]) * PRIME;
+        }
+        this.hash = hash;
+    }
+
+    @Override
+    public @NotNull ContentHash append(@Nullable CharSequence sequence) {
+        CharSequence chars = sequence != null ? sequence : "null";
+        return append(chars, 0, chars.length());
+    }
+
+    @Override
+    public @NotNull ContentHash append(@Nullable CharSequence sequence, int start, int end) {
+        CharSequence chars = sequence != null ? sequence : "null";
+        long hash = this.hash;
+        for (int i = start; i < end; i++) {
+            hash = (hash ^ chars.charAt(i)) * PRIME;
+        }
+        this.hash = hash;
+        return this;
+    }
+
+    @Override
+    public @NotNull ContentHash append(char c) {
+        hash = (hash ^ c) * PRIME;
+        return this;
+    }
+
+}
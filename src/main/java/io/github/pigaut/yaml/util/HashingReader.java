@@ -0,0 +1,47 @@
+package io.github.pigaut.yaml.util;
+
+import org.jetbrains.annotations.*;
+
+import java.io.*;
+
+public class HashingReader extends FilterReader {
+
+    private final ContentHash hash = new ContentHash();
+
+    public HashingReader(@NotNull Reader reader) {
+        super(reader);
+    }
+
+    public long getHash() {
+        return hash.getValue();
+    }
+
+    @Override
+    public int read() throws IOException {
+        int c = super.read();
+        if (c != -1) {
+            hash.append((char) c);
+        }
+        return c;
+    }
+
+    @Override
+    public int read(char @NotNull [] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            hash.update(buffer, offset, read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        throw new IOException("Skipping is not supported while hashing");
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+}
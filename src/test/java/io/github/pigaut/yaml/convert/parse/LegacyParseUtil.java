@@ -0,0 +1,90 @@
+package io.github.pigaut.yaml.convert.parse;
+
+import org.jetbrains.annotations.*;
+import org.snakeyaml.engine.v2.nodes.*;
+
+/**
+ * A frozen copy of how {@code ParseUtil} classified scalars before it stopped using exceptions, every number
+ * is parsed by the JDK after removing whitespace. Used by {@link ParseUtilDiffTest} to check that the current
+ * methods return the same values.
+ */
+final class LegacyParseUtil {
+
+    private LegacyParseUtil() {}
+
+    static Object parseAsScalar(@NotNull Tag tag, @NotNull String string) {
+        if (tag.equals(Tag.STR)) {
+            return string;
+        }
+        if (tag.equals(Tag.INT)) {
+            Long number = parseLongOrNull(string);
+            if (number != null) {
+                long value = number;
+                return value == (int) value ? (Object) (int) value : (Object) value;
+            }
+        }
+        return parseAsScalar(string);
+    }
+
+    static Object parseAsScalar(@NotNull String string) {
+        Boolean bool = parseBooleanOrNull(string);
+        if (bool != null) {
+            return bool;
+        }
+
+        Integer integerNumber = parseIntegerOrNull(string);
+        if (integerNumber != null) {
+            return integerNumber;
+        }
+
+        Double doubleNumber = parseDoubleOrNull(string);
+        if (doubleNumber != null) {
+            return doubleNumber;
+        }
+
+        return string;
+    }
+
+    static @Nullable Boolean parseBooleanOrNull(String string) {
+        if (string.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (string.equalsIgnoreCase("false")) {
+            return false;
+        }
+        return null;
+    }
+
+    static @Nullable Integer parseIntegerOrNull(String string) {
+        try {
+            return Integer.parseInt(string.replaceAll("\\s", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static @Nullable Long parseLongOrNull(String string) {
+        try {
+            return Long.parseLong(string.replaceAll("\\s", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static @Nullable Float parseFloatOrNull(String string) {
+        try {
+            return Float.parseFloat(string.replaceAll("\\s", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static @Nullable Double parseDoubleOrNull(String string) {
+        try {
+            return Double.parseDouble(string.replaceAll("\\s", ""));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.github.pigaut.yaml.convert.parse;
+
+import org.junit.jupiter.api.*;
+import org.snakeyaml.engine.v2.nodes.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that {@link ParseUtil} classifies scalars like {@link LegacyParseUtil} on random strings built from
+ * pieces of numbers, booleans, whitespace and unicode digits, and on a list of edge cases.
+ */
+class ParseUtilDiffTest {
+
+    private static final long SEED = 0x59414D4CL;
+    private static final int MAX_PIECES = 6;
+    private static final int CASES = 1_000_000;
+    private static final int MAX_REPORTED = 20;
+
+    private static final String[] PIECES = {
+            "0", "1", "2", "5", "9", "00", "-", "+", ".", "e", "E", "x", "X", "p", "P", "N", "a", "I", "n", "f", "i",
+            "t", "y", "d", "D", "F", "b", "c", "z", " ", "\t", "\n", "\u000B", "\u0001", "\u001F", " ",
+            "١", "０", "NaN", "Infinity", "0x", "true", "FALSE", "1e400",
+            "2147483647", "2147483648", "-2147483648", "-2147483649",
+            "9223372036854775807", "9223372036854775808", "-9223372036854775808"
+    };
+
+    private static final String[] EDGE_CASES = {
+            "", " ", "Welcome back", "1_000", "0x1F", "0x1p3", "0x.8p1", "0x1.p1", "0x.p1", "1.", ".5", "1e", "1e+",
+            "-", "+", "+-1", "--1", "1f", "1.5D", "NaNd", "-Infinity", "+NaN", "0X1P-3f", "1 2 3", "1\u00012"
+    };
+
+    private final List<String> failures = new ArrayList<>();
+    private int failureCount = 0;
+
+    @Test
+    void classifiesRandomScalarsLikeLegacy() {
+        Random random = new Random(SEED);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < CASES; i++) {
+            builder.setLength(0);
+            int pieces = random.nextInt(MAX_PIECES + 1);
+            for (int j = 0; j < pieces; j++) {
+                builder.append(PIECES[random.nextInt(PIECES.length)]);
+            }
+            check(builder.toString());
+        }
+        assertNoFailures();
+    }
+
+    @Test
+    void classifiesEdgeCasesLikeLegacy() {
+        for (String edgeCase : EDGE_CASES) {
+            check(edgeCase);
+        }
+        assertNoFailures();
+    }
+
+    private void check(String string) {
+        compare(string, "parseAsScalar", LegacyParseUtil.parseAsScalar(string), ParseUtil.parseAsScalar(string));
+        compare(string, "parseAsScalar(INT)", LegacyParseUtil.parseAsScalar(Tag.INT, string), ParseUtil.parseAsScalar(Tag.INT, string));
+        compare(string, "parseBooleanOrNull", LegacyParseUtil.parseBooleanOrNull(string), ParseUtil.parseBooleanOrNull(string));
+        compare(string, "parseIntegerOrNull", LegacyParseUtil.parseIntegerOrNull(string), ParseUtil.parseIntegerOrNull(string));
+        compare(string, "parseLongOrNull", LegacyParseUtil.parseLongOrNull(string), ParseUtil.parseLongOrNull(string));
+        compare(string, "parseFloatOrNull", LegacyParseUtil.parseFloatOrNull(string), ParseUtil.parseFloatOrNull(string));
+        compare(string, "parseDoubleOrNull", LegacyParseUtil.parseDoubleOrNull(string), ParseUtil.parseDoubleOrNull(string));
+    }
+
+    // Values of a different type are different even if they are equal as numbers
+    private void compare(String string, String method, Object expected, Object actual) {
+        if (Objects.equals(expected, actual) && (expected == null || expected.getClass() == actual.getClass())) {
+            return;
+        }
+        if (failureCount++ < MAX_REPORTED) {
+            failures.add(String.format("%s(\"%s\"): expected %s but was %s", method, string.replace("\n", "\\n"),
+                    describe(expected), describe(actual)));
+        }
+    }
+
+    private void assertNoFailures() {
+        assertEquals(0, failureCount, () -> failureCount + " results differ:\n" + String.join("\n", failures));
+    }
+
+    private static String describe(Object value) {
+        return value == null ? "null" : value.getClass().getSimpleName() + " " + value;
+    }
+
+}
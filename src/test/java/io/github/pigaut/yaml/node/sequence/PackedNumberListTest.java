@@ -0,0 +1,57 @@
+package io.github.pigaut.yaml.node.sequence;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.configurator.*;
+import io.github.pigaut.yaml.node.section.*;
+import org.junit.jupiter.api.*;
+
+import java.io.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the elements of a packed sequence read as fields stay the scalars of the sequence when it is changed.
+ */
+class PackedNumberListTest {
+
+    private RootSection root;
+    private Sequence numbers;
+
+    @BeforeEach
+    void load() throws ConfigLoadException {
+        root = new RootSection(new StandardConfigurator());
+        root.loadFromReader(new StringReader("numbers: [1, 2, 3, 4, 5, 6, 7, 8]\n"));
+        numbers = (Sequence) root.getSequence("numbers").value();
+        assertNotNull(numbers.getPackedValue(0));
+    }
+
+    @Test
+    void heldElementSeesWritesThroughNewReads() {
+        ConfigScalar held = numbers.getScalar(0).value();
+        numbers.getScalar(0).value().setValue(5);
+        assertEquals(5, held.getValue());
+
+        held.setValue(6);
+        assertEquals(6, numbers.getScalar(0).value().getValue());
+        assertTrue(root.saveToString().contains("- 6"));
+    }
+
+    @Test
+    void elementsReadBeforeWritesCanAllBeWritten() {
+        ConfigScalar first = numbers.getScalar(0).value();
+        ConfigScalar second = numbers.getScalar(1).value();
+        first.setValue(10);
+        second.setValue(20);
+        assertEquals(10, numbers.getScalar(0).value().getValue());
+        assertEquals(20, numbers.getScalar(1).value().getValue());
+    }
+
+    @Test
+    void frozenElementsKeepNumbersPacked() {
+        Sequence frozen = (Sequence) ((ConfigSection) root.freeze()).getSequence("numbers").value();
+        assertEquals(1, frozen.getScalar(0).value().getValue());
+        assertNotNull(frozen.getPackedValue(0));
+        assertThrows(UnsupportedOperationException.class, () -> frozen.getScalar(0).value().setValue(5));
+    }
+
+}
@@ -0,0 +1,36 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.configurator.*;
+import io.github.pigaut.yaml.configurator.load.*;
+import io.github.pigaut.yaml.configurator.map.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfiguratorBenchmark {
+
+    private final Configurator configurator = new StandardConfigurator();
+
+    @Benchmark
+    public ConfigMapper<?> mapperForSubclass() {
+        return configurator.getMapper(LinkedHashMap.class);
+    }
+
+    @Benchmark
+    public ConfigMapper<?> mapperMiss() {
+        return configurator.getMapper(StringBuilder.class);
+    }
+
+    @Benchmark
+    public ConfigLoader<?> loaderForEnum() {
+        return configurator.getLoader(TimeUnit.class);
+    }
+
+}
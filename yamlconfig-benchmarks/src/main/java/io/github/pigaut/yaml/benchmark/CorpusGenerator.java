@@ -0,0 +1,110 @@
+package io.github.pigaut.yaml.benchmark;
+
+import org.jetbrains.annotations.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Generates the YAML files used by the benchmarks. The output only depends on the seed and the target size,
+ * so the same corpus is produced on every machine and results can be compared across versions.
+ */
+public class CorpusGenerator {
+
+    public static final long DEFAULT_SEED = 0x59414D4CL;
+
+    public static final int DEEP_PATH_DEPTH = 8;
+
+    private static final String[] MATERIALS = {"diamond", "emerald", "gold_ingot", "iron_ingot", "coal", "redstone", "lapis_lazuli", "netherite_scrap"};
+    private static final String[] DELAYS = {"20", "5s", "1m 30s", "2-5s", "1h", "10 ticks", "3-8m"};
+    private static final String[] AMOUNTS = {"1", "5", "2-6", "10+", "3-", "1;2;4;8", "0.5"};
+    private static final String[] COMMANDS = {
+            "give diamond 5 silent=true",
+            "effect speed, 10, 2 particles=false",
+            "broadcast Hello world! color=gold bold=true",
+            "teleport 100 64 -200 world=world_nether"
+    };
+
+    private CorpusGenerator() {}
+
+    public static @NotNull String generate(@NotNull CorpusSize size) {
+        return generate(size.getBytes(), DEFAULT_SEED);
+    }
+
+    public static @NotNull String generate(int targetBytes, long seed) {
+        Random random = new Random(seed);
+        StringBuilder builder = new StringBuilder(targetBytes + 1024);
+        builder.append("# Generated benchmark corpus, seed ").append(seed).append('\n');
+        builder.append("version: 3\n");
+        builder.append("settings:\n");
+        builder.append("  language: en_US\n");
+        builder.append("  debug: false\n");
+        builder.append("  tick-rate: 20\n");
+
+        builder.append("deep:\n");
+        for (int depth = 1; depth <= DEEP_PATH_DEPTH; depth++) {
+            builder.append("  ".repeat(depth)).append("level").append(depth).append(":\n");
+        }
+        builder.append("  ".repeat(DEEP_PATH_DEPTH + 1)).append("value: 42\n");
+
+        builder.append("entries:\n");
+        int entry = 0;
+        while (builder.length() < targetBytes) {
+            appendEntry(builder, random, entry++);
+        }
+        return builder.toString();
+    }
+
+    public static @NotNull File write(@NotNull CorpusSize size, @NotNull File directory) throws IOException {
+        File file = new File(directory, size.getFileName());
+        Files.writeString(file.toPath(), generate(size), StandardCharsets.UTF_8);
+        return file;
+    }
+
+    public static @NotNull File writeTemp(@NotNull CorpusSize size) throws IOException {
+        File directory = Files.createTempDirectory("yamlconfig-corpus").toFile();
+        directory.deleteOnExit();
+        File file = write(size, directory);
+        file.deleteOnExit();
+        return file;
+    }
+
+    private static void appendEntry(StringBuilder builder, Random random, int entry) {
+        builder.append("  # Entry number ").append(entry).append('\n');
+        builder.append("  entry-").append(entry).append(":\n");
+        builder.append("    name: \"Entry ").append(entry).append("\"\n");
+        builder.append("    enabled: ").append(random.nextBoolean()).append('\n');
+        builder.append("    material: ").append(pick(random, MATERIALS)).append('\n');
+        builder.append("    weight: ").append(random.nextInt(1000) / 10.0).append('\n');
+        builder.append("    amount: ").append(pick(random, AMOUNTS)).append('\n');
+        builder.append("    delay: ").append(pick(random, DELAYS)).append("  # in ticks unless a unit is given\n");
+        builder.append("    rewards:\n");
+        builder.append("      minimum: ").append(random.nextInt(10)).append('\n');
+        builder.append("      maximum: ").append(10 + random.nextInt(90)).append('\n');
+        builder.append("      command: ").append(pick(random, COMMANDS)).append('\n');
+        builder.append("    lore:\n");
+        int loreLines = 1 + random.nextInt(4);
+        for (int i = 0; i < loreLines; i++) {
+            builder.append("      - \"Line ").append(i).append(" of entry ").append(entry).append("\"\n");
+        }
+        builder.append("    chances: [").append(random.nextInt(100) / 100.0).append(", ").append(random.nextInt(100) / 100.0).append("]\n");
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    public static void main(String[] args) throws IOException {
+        File directory = new File(args.length > 0 ? args[0] : "corpus");
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create directory: " + directory);
+        }
+        for (CorpusSize size : CorpusSize.values()) {
+            File file = write(size, directory);
+            System.out.println("Generated " + file + " (" + file.length() + " bytes)");
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package io.github.pigaut.yaml.benchmark;
+
+public enum CorpusSize {
+
+    SMALL(4 * 1024),
+    MEDIUM(1024 * 1024),
+    LARGE(50 * 1024 * 1024);
+
+    private final int bytes;
+
+    CorpusSize(int bytes) {
+        this.bytes = bytes;
+    }
+
+    public int getBytes() {
+        return bytes;
+    }
+
+    public String getFileName() {
+        return "corpus-" + name().toLowerCase() + ".yml";
+    }
+
+}
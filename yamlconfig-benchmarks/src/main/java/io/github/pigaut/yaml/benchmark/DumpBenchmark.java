@@ -0,0 +1,41 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DumpBenchmark {
+
+    @Param({"SMALL", "MEDIUM"})
+    public CorpusSize size;
+
+    private final ConfigDump dumper = new ConfigDump();
+    private ConfigRoot root;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ConfigLoadException {
+        File file = CorpusGenerator.writeTemp(size);
+        root = YamlConfig.loadConfig(file);
+        file.delete();
+    }
+
+    @Benchmark
+    public String dumpToString() {
+        return dumper.dumpToString(root);
+    }
+
+    @Benchmark
+    public void dumpToOutputStream() throws IOException {
+        dumper.dump(root, OutputStream.nullOutputStream());
+    }
+
+}
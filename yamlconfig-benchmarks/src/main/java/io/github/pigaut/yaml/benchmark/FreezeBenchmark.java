@@ -0,0 +1,81 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+/**
+ * Compares lookups on a loaded tree against the same tree after {@link ConfigRoot#freeze()},
+ * run {@link #main(String[])} to print the retained heap of both trees.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FreezeBenchmark {
+
+    private static final String DEEP_PATH = "deep.level1.level2.level3.level4.level5.level6.level7.level8.value";
+
+    @Param({"false", "true"})
+    public boolean frozen;
+
+    private ConfigSection section;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ConfigLoadException {
+        File file = CorpusGenerator.writeTemp(CorpusSize.MEDIUM);
+        ConfigRoot root = YamlConfig.loadConfig(file);
+        file.delete();
+        section = (ConfigSection) (frozen ? root.freeze() : root);
+    }
+
+    @Benchmark
+    public String nestedString() {
+        return section.getString("entries.entry-100.material").orElse(null);
+    }
+
+    @Benchmark
+    public Integer deepInteger() {
+        return section.getInteger(DEEP_PATH).orElse(null);
+    }
+
+    @Benchmark
+    public Integer deepMiss() {
+        return section.getInteger("entries.entry-100.rewards.missing").orElse(null);
+    }
+
+    @Benchmark
+    public Object stringList() {
+        return section.getStringList("entries.entry-100.lore").orElse(null);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer nestedIntegerContended() {
+        return section.getInteger("entries.entry-100.rewards.minimum").orElse(null);
+    }
+
+    public static void main(String[] args) throws IOException, ConfigLoadException {
+        CorpusSize size = args.length > 0 ? CorpusSize.valueOf(args[0]) : CorpusSize.MEDIUM;
+        File file = CorpusGenerator.writeTemp(size);
+        YamlConfig.loadConfig(file).freeze();
+
+        long before = HeapUsage.usedHeap();
+        ConfigRoot root = YamlConfig.loadConfig(file);
+        long loaded = HeapUsage.usedHeap() - before;
+        System.out.printf("loaded %s: %d KB retained%n", size, loaded >> 10);
+
+        before = HeapUsage.usedHeap();
+        ConfigRoot frozenRoot = root.freeze();
+        long frozen = HeapUsage.usedHeap() - before;
+        System.out.printf("frozen %s: %d KB retained%n", size, frozen >> 10);
+
+        file.delete();
+        System.out.println(root.isFrozen() + " " + frozenRoot.isFrozen());
+    }
+
+}
@@ -0,0 +1,74 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.line.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.util.concurrent.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LineBenchmark {
+
+    @Param({"LABELED", "COMMA", "SPACED"})
+    public LineStyle lineStyle;
+
+    private Line line;
+    private String shortLine;
+    private String longLine;
+
+    @Setup(Level.Trial)
+    public void setup() throws InvalidConfigException {
+        ConfigSection section = YamlConfig.createEmptySection();
+        section.set("line", "");
+        line = new Line(section.getScalar("line").orThrow(), lineStyle);
+
+        switch (lineStyle) {
+            case LABELED -> {
+                shortLine = "give diamond, 5 silent=true";
+                longLine = "effect speed, 10, 2, 0.5, true, gold_ingot,, escaped particles=false amplifier=3 target=all";
+            }
+            case COMMA -> {
+                shortLine = "diamond, 5 silent=true";
+                longLine = "speed, 10, 2, 0.5, true, gold_ingot,, escaped particles=false amplifier=3 target=all";
+            }
+            case SPACED -> {
+                shortLine = "diamond 5 silent=true";
+                longLine = "speed 10 2 0.5 true gold_ingot escaped particles=false amplifier=3 target=all";
+            }
+        }
+    }
+
+    @Benchmark
+    public Line updateShortLine() {
+        line.updateLine(shortLine);
+        return line;
+    }
+
+    @Benchmark
+    public Line updateLongLine() {
+        line.updateLine(longLine);
+        return line;
+    }
+
+    @Benchmark
+    public ConfigOptional<Integer> readOneFlag() {
+        line.updateLine(longLine);
+        return line.getInteger("amp|amplifier");
+    }
+
+    @Benchmark
+    public void readAllValues(Blackhole blackhole) {
+        line.updateLine(longLine);
+        for (ConfigScalar value : line) {
+            blackhole.consume(value.getValue());
+        }
+        blackhole.consume(line.getAllFlags());
+    }
+
+}
@@ -0,0 +1,109 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.line.*;
+import io.github.pigaut.yaml.node.section.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.io.*;
+import java.lang.ref.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Reading the lines of a list of actions where the same few lines are repeated, with and without a line cache.
+ * Every line is read through a new {@link Line}, like the first read after loading. Run {@link #main} with a cache size to
+ * print the heap retained by the lines of the list once all of them were read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LineCacheBenchmark {
+
+    private static final int ACTIONS = 4096;
+    private static final String[] LINES = {
+            "message Welcome back to the server! delay=20",
+            "sound entity_player_levelup, 1.0, 0.5 delay=40",
+            "effect speed, 200, 1 particles=false delay=40",
+            "give diamond, 5 silent=true",
+            "teleport spawn delay=60 cancel_on_move=true",
+            "message You received a reward amount=5 delay=20",
+            "title Welcome, Have fun fade_in=10 stay=70 fade_out=20",
+            "command broadcast,, everyone delay=100 as_console=true"
+    };
+
+    @Param({"0", "256"})
+    public int cacheSize;
+
+    private List<ConfigScalar> actions;
+
+    @Setup(Level.Trial)
+    public void setup() throws ConfigLoadException, InvalidConfigException {
+        actions = getActions(load(cacheSize));
+    }
+
+    @Benchmark
+    public void readFlag(Blackhole blackhole) {
+        for (ConfigScalar action : actions) {
+            blackhole.consume(new Line(action, LineStyle.LABELED).getInteger("delay"));
+        }
+    }
+
+    @Benchmark
+    public void readAll(Blackhole blackhole) {
+        for (ConfigScalar action : actions) {
+            Line line = new Line(action, LineStyle.LABELED);
+            for (ConfigScalar value : line) {
+                blackhole.consume(value.getValue());
+            }
+            blackhole.consume(line.getAllFlags());
+        }
+    }
+
+    private static RootSection load(int cacheSize) throws ConfigLoadException {
+        Random random = new Random(CorpusGenerator.DEFAULT_SEED);
+        StringBuilder yaml = new StringBuilder("actions:\n");
+        for (int i = 0; i < ACTIONS; i++) {
+            yaml.append("  - \"").append(LINES[random.nextInt(LINES.length)]).append("\"\n");
+        }
+
+        RootSection section = YamlConfig.createEmptySection();
+        section.getConfigurator().setLineCacheSize(cacheSize);
+        section.loadFromReader(new StringReader(yaml.toString()));
+        return section;
+    }
+
+    private static List<ConfigScalar> getActions(RootSection section) throws InvalidConfigException {
+        List<ConfigScalar> actions = new ArrayList<>();
+        for (ConfigField field : section.getSequence("actions").orThrow()) {
+            actions.add((ConfigScalar) field);
+        }
+        return actions;
+    }
+
+    public static void main(String[] args) throws ConfigLoadException, InvalidConfigException {
+        int cacheSize = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        long retained = readAndMeasure(cacheSize);
+        System.out.printf("cacheSize=%d %d lines: %d KB retained%n", cacheSize, ACTIONS, retained >> 10);
+    }
+
+    private static long readAndMeasure(int cacheSize) throws ConfigLoadException, InvalidConfigException {
+        List<ConfigScalar> actions = getActions(load(cacheSize));
+        long before = HeapUsage.usedHeap();
+        for (ConfigScalar action : actions) {
+            ConfigLine line = action.toLine();
+            for (ConfigScalar value : line) {
+                value.getValue();
+            }
+            line.getAllFlags();
+        }
+        long retained = HeapUsage.usedHeap() - before;
+        Reference.reachabilityFence(actions);
+        return retained;
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.configurator.*;
+import io.github.pigaut.yaml.node.section.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class LoadBenchmark {
+
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    public CorpusSize size;
+
+    // The large corpus is over snakeyaml's default limit of 3 MB
+    private static final int CODE_POINT_LIMIT = Integer.MAX_VALUE;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = CorpusGenerator.writeTemp(size);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public ConfigRoot loadConfig() throws ConfigLoadException {
+        return YamlConfig.loadConfig(file, new StandardConfigurator(), null, LoadProfile.DEFAULT, CODE_POINT_LIMIT);
+    }
+
+    @Benchmark
+    public RootSection rootSectionLoad() throws ConfigLoadException {
+        RootSection section = YamlConfig.createEmptySection(file);
+        section.setCodePointLimit(CODE_POINT_LIMIT);
+        section.load();
+        return section;
+    }
+
+}
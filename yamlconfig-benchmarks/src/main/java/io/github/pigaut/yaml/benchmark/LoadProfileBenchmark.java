@@ -0,0 +1,63 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.configurator.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+/**
+ * Load time of each {@link LoadProfile}, run {@link #main} to print the heap retained by each loaded tree.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class LoadProfileBenchmark {
+
+    @Param({"DEFAULT", "READ_ONLY_FAST"})
+    public LoadProfile profile;
+
+    @Param({"MEDIUM"})
+    public CorpusSize size;
+
+    private File file;
+    private Configurator configurator;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        file = CorpusGenerator.writeTemp(size);
+        configurator = new StandardConfigurator();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public ConfigRoot loadConfig() throws ConfigLoadException {
+        return YamlConfig.loadConfig(file, configurator, null, profile);
+    }
+
+    public static void main(String[] args) throws IOException, ConfigLoadException {
+        CorpusSize size = args.length > 0 ? CorpusSize.valueOf(args[0]) : CorpusSize.MEDIUM;
+        File file = CorpusGenerator.writeTemp(size);
+        Configurator configurator = new StandardConfigurator();
+
+        for (LoadProfile profile : LoadProfile.values()) {
+            YamlConfig.loadConfig(file, configurator, null, profile);
+            long before = HeapUsage.usedHeap();
+            ConfigRoot root = YamlConfig.loadConfig(file, configurator, null, profile);
+            long retained = HeapUsage.usedHeap() - before;
+            System.out.printf("%s %s: %d KB retained%n", profile, size, retained >> 10);
+            System.out.println(root.getLoadProfile());
+        }
+
+        file.delete();
+    }
+
+}
@@ -0,0 +1,85 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.amount.*;
+import io.github.pigaut.yaml.delay.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LookupBenchmark {
+
+    private static final String DEEP_PATH = "deep.level1.level2.level3.level4.level5.level6.level7.level8.value";
+
+    private ConfigSection section;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ConfigLoadException {
+        File file = CorpusGenerator.writeTemp(CorpusSize.MEDIUM);
+        section = YamlConfig.loadSection(file);
+        file.delete();
+    }
+
+    @Benchmark
+    public Integer shallowInteger() {
+        return section.getInteger("version").orElse(null);
+    }
+
+    @Benchmark
+    public String nestedString() {
+        return section.getString("entries.entry-100.material").orElse(null);
+    }
+
+    @Benchmark
+    public Integer deepInteger() {
+        return section.getInteger(DEEP_PATH).orElse(null);
+    }
+
+    @Benchmark
+    public Integer multiKeyFirstAlias() {
+        return section.getInteger("entries.entry-100.rewards.minimum|min").orElse(null);
+    }
+
+    @Benchmark
+    public Integer multiKeyLastAlias() {
+        return section.getInteger("entries.entry-100.rewards.min|minimum").orElse(null);
+    }
+
+    @Benchmark
+    public Integer shallowMiss() {
+        return section.getInteger("missing").orElse(null);
+    }
+
+    @Benchmark
+    public Integer deepMiss() {
+        return section.getInteger("entries.entry-100.rewards.missing").orElse(null);
+    }
+
+    @Benchmark
+    public ConfigSection nestedSection() {
+        return section.getSection("entries.entry-100.rewards").orElse(null);
+    }
+
+    @Benchmark
+    public Amount nestedAmount() {
+        return section.get("entries.entry-100.amount", Amount.class).orElse(null);
+    }
+
+    @Benchmark
+    public Delay nestedDelay() {
+        return section.get("entries.entry-100.delay", Delay.class).orElse(null);
+    }
+
+    @Benchmark
+    public Object stringList() {
+        return section.getStringList("entries.entry-100.lore").orElse(null);
+    }
+
+}
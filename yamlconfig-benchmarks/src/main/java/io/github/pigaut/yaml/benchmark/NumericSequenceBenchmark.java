@@ -0,0 +1,93 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.section.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Reading a long sequence of numbers as boxed lists against primitive arrays, on a sequence loaded into a primitive
+ * array and on the same sequence after its elements were turned into scalars. Run {@link #main} to print the heap
+ * retained by both kinds of sequences.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NumericSequenceBenchmark {
+
+    private static final int LENGTH = 4096;
+
+    @Param({"true", "false"})
+    public boolean packed;
+
+    private ConfigSequence sequence;
+
+    @Setup(Level.Trial)
+    public void setup() throws ConfigLoadException, InvalidConfigException {
+        RootSection section = load(1, packed);
+        sequence = section.getSequence("table0").orThrow();
+    }
+
+    @Benchmark
+    public List<Integer> integerList() throws InvalidConfigException {
+        return sequence.toIntegerList().orThrow();
+    }
+
+    @Benchmark
+    public int[] intArray() throws InvalidConfigException {
+        return sequence.toIntArray().orThrow();
+    }
+
+    @Benchmark
+    public List<Double> doubleList() throws InvalidConfigException {
+        return sequence.toDoubleList().orThrow();
+    }
+
+    @Benchmark
+    public double[] doubleArray() throws InvalidConfigException {
+        return sequence.toDoubleArray().orThrow();
+    }
+
+    private static RootSection load(int tables, boolean packed) throws ConfigLoadException {
+        Random random = new Random(CorpusGenerator.DEFAULT_SEED);
+        StringBuilder yaml = new StringBuilder();
+        for (int i = 0; i < tables; i++) {
+            yaml.append("table").append(i).append(": [");
+            for (int j = 0; j < LENGTH; j++) {
+                yaml.append(j == 0 ? "" : ", ").append(random.nextInt(100_000));
+            }
+            yaml.append("]\n");
+        }
+
+        RootSection section = YamlConfig.createEmptySection();
+        section.loadFromReader(new StringReader(yaml.toString()));
+        if (!packed) {
+            // Adding an element moves a packed sequence back to one scalar per element
+            for (int i = 0; i < tables; i++) {
+                ConfigSequence table = section.getSequenceOrCreate("table" + i);
+                table.add(0);
+                table.remove(LENGTH);
+            }
+        }
+        return section;
+    }
+
+    public static void main(String[] args) throws ConfigLoadException {
+        int tables = args.length > 0 ? Integer.parseInt(args[0]) : 50;
+        for (boolean packed : new boolean[] {true, false}) {
+            load(tables, packed);
+            long before = HeapUsage.usedHeap();
+            RootSection section = load(tables, packed);
+            long retained = HeapUsage.usedHeap() - before;
+            System.out.printf("packed=%s %d x %d: %d KB retained%n", packed, tables, LENGTH, retained >> 10);
+            System.out.println(section.size());
+        }
+    }
+
+}
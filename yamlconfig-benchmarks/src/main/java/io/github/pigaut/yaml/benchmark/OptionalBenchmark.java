@@ -0,0 +1,58 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.path.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Cost of reading optional values that are not set. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm}: a missing key should not allocate an exception or a path string.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionalBenchmark {
+
+    private static final ConfigPath MISSING_PATH = ConfigPath.of("rewards.missing");
+    private static final ConfigPath PRESENT_PATH = ConfigPath.of("rewards.amount");
+
+    private ConfigSection section;
+
+    @Setup
+    public void setup() {
+        section = YamlConfig.createEmptySection();
+        section.set("rewards.amount", 5);
+        section.set("rewards.name", "diamond");
+    }
+
+    @Benchmark
+    public int missingIntegerOrElse() {
+        return section.getInteger("rewards.missing").orElse(0);
+    }
+
+    @Benchmark
+    public int missingIntegerOrElsePath() {
+        return section.getInteger(MISSING_PATH).orElse(0);
+    }
+
+    @Benchmark
+    public boolean containsMissing() {
+        return section.contains(MISSING_PATH);
+    }
+
+    @Benchmark
+    public boolean isSetOnSection() {
+        return section.isSet("rewards");
+    }
+
+    @Benchmark
+    public int presentIntegerOrElse() {
+        return section.getInteger(PRESENT_PATH).orElse(0);
+    }
+
+}
@@ -0,0 +1,73 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.amount.*;
+import io.github.pigaut.yaml.convert.parse.*;
+import io.github.pigaut.yaml.delay.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+    @Benchmark
+    public Object parseBooleanAsScalar() {
+        return ParseUtil.parseAsScalar("true");
+    }
+
+    @Benchmark
+    public Object parseIntegerAsScalar() {
+        return ParseUtil.parseAsScalar("42");
+    }
+
+    @Benchmark
+    public Object parseDoubleAsScalar() {
+        return ParseUtil.parseAsScalar("3.75");
+    }
+
+    @Benchmark
+    public Object parseStringAsScalar() {
+        return ParseUtil.parseAsScalar("diamond sword");
+    }
+
+    @Benchmark
+    public Amount parseFixedAmount() throws StringParseException {
+        return ParseUtil.parseAmount("5");
+    }
+
+    @Benchmark
+    public Amount parseRangedAmount() throws StringParseException {
+        return ParseUtil.parseAmount("2-6");
+    }
+
+    @Benchmark
+    public Amount parseInequalityAmount() throws StringParseException {
+        return ParseUtil.parseAmount("10+");
+    }
+
+    @Benchmark
+    public Amount parseRandomAmount() throws StringParseException {
+        return ParseUtil.parseAmount("1;2;4;8");
+    }
+
+    @Benchmark
+    public Delay parseTicksDelay() throws StringParseException {
+        return ParseUtil.parseDelay("20");
+    }
+
+    @Benchmark
+    public Delay parseUnitDelay() throws StringParseException {
+        return ParseUtil.parseDelay("1m 30s");
+    }
+
+    @Benchmark
+    public Delay parseRangedDelay() throws StringParseException {
+        return ParseUtil.parseDelay("2-5s");
+    }
+
+}
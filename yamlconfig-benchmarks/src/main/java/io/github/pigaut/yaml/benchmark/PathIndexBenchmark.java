@@ -0,0 +1,80 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.section.*;
+import io.github.pigaut.yaml.path.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+/**
+ * Compares lookups from the root with and without {@link RootSection#setPathIndexEnabled(boolean)},
+ * run {@link #main(String[])} to print the retained heap of the index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PathIndexBenchmark {
+
+    @Param({"3", "6", "10"})
+    public int depth;
+
+    @Param({"false", "true"})
+    public boolean indexed;
+
+    private RootSection section;
+    private String path;
+    private ConfigPath configPath;
+    private String missingPath;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ConfigLoadException {
+        File file = CorpusGenerator.writeTemp(CorpusSize.MEDIUM);
+        section = (RootSection) YamlConfig.loadConfig(file);
+        file.delete();
+
+        StringBuilder builder = new StringBuilder("menus");
+        for (int i = 2; i <= depth; i++) {
+            builder.append(".level").append(i);
+        }
+        path = builder.toString();
+        configPath = ConfigPath.of(path);
+        missingPath = path + "-missing";
+        section.set(path, 42);
+        section.setPathIndexEnabled(indexed);
+    }
+
+    @Benchmark
+    public Integer integer() {
+        return section.getInteger(path).orElse(null);
+    }
+
+    @Benchmark
+    public Integer integerWithParsedPath() {
+        return section.getInteger(configPath).orElse(null);
+    }
+
+    @Benchmark
+    public Integer miss() {
+        return section.getInteger(missingPath).orElse(null);
+    }
+
+    public static void main(String[] args) throws IOException, ConfigLoadException {
+        CorpusSize size = args.length > 0 ? CorpusSize.valueOf(args[0]) : CorpusSize.MEDIUM;
+        File file = CorpusGenerator.writeTemp(size);
+        RootSection root = (RootSection) YamlConfig.loadConfig(file);
+        file.delete();
+
+        long before = HeapUsage.usedHeap();
+        root.setPathIndexEnabled(true);
+        long indexed = HeapUsage.usedHeap() - before;
+        int fields = root.getPathIndex().size();
+        System.out.printf("path index %s: %d fields, %d KB retained, %d bytes per field%n",
+                size, fields, indexed >> 10, indexed / fields);
+    }
+
+}
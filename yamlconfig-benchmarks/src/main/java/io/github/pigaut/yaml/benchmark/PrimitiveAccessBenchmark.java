@@ -0,0 +1,79 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Reading numbers with a default through the optionals against the primitive accessors. Run with
+ * {@code -prof gc}: the primitive accessors should not allocate, the optionals allocate on every read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveAccessBenchmark {
+
+    private ConfigSection section;
+    private ConfigSequence sequence;
+
+    @Setup
+    public void setup() throws InvalidConfigException {
+        section = YamlConfig.createEmptySection();
+        section.set("rewards.amount", 5000);
+        section.set("rewards.chance", 0.25);
+        section.set("rewards.enabled", true);
+        section.set("rewards.weights", List.of(1000, 2000, 3000));
+        sequence = section.getSequence("rewards.weights").orThrow();
+    }
+
+    @Benchmark
+    public int integerOrElse() {
+        return section.getInteger("rewards.amount").orElse(0);
+    }
+
+    @Benchmark
+    public int intWithDefault() {
+        return section.getInt("rewards.amount", 0);
+    }
+
+    @Benchmark
+    public double doubleOrElse() {
+        return section.getDouble("rewards.chance").orElse(0.0);
+    }
+
+    @Benchmark
+    public double doubleWithDefault() {
+        return section.getDouble("rewards.chance", 0.0);
+    }
+
+    @Benchmark
+    public boolean booleanOrElse() {
+        return section.getBoolean("rewards.enabled").orElse(false);
+    }
+
+    @Benchmark
+    public boolean booleanWithDefault() {
+        return section.getBoolean("rewards.enabled", false);
+    }
+
+    @Benchmark
+    public int missingIntWithDefault() {
+        return section.getInt("rewards.missing", 0);
+    }
+
+    @Benchmark
+    public int sequenceIntegerOrElse() {
+        return sequence.getInteger(2).orElse(0);
+    }
+
+    @Benchmark
+    public int sequenceIntWithDefault() {
+        return sequence.getInt(2, 0);
+    }
+
+}
@@ -0,0 +1,102 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.configurator.*;
+import io.github.pigaut.yaml.configurator.load.*;
+import io.github.pigaut.yaml.configurator.record.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecordBenchmark {
+
+    @ConfigBindable
+    public record Rewards(@ConfigKey("minimum|min") int minimum, @ConfigKey("maximum|max") int maximum, String command) {}
+
+    @ConfigBindable
+    public record Entry(String name, boolean enabled, String material, double weight, List<String> lore,
+                        Rewards rewards, @ConfigDefault("1") int priority) {}
+
+    public static class EntryBean {
+        String name;
+        boolean enabled;
+        String material;
+        double weight;
+        List<String> lore;
+        Rewards rewards;
+        @ConfigDefault("1")
+        private int priority;
+
+        public int getPriority() {
+            return priority;
+        }
+
+        public void setPriority(int priority) {
+            this.priority = priority;
+        }
+    }
+
+    private static final ConfigLoader.Section<Rewards> HAND_WRITTEN_REWARDS = section -> new Rewards(
+            section.getRequiredInteger("minimum|min"),
+            section.getRequiredInteger("maximum|max"),
+            section.getRequiredString("command"));
+
+    private static final ConfigLoader.Section<Entry> HAND_WRITTEN_ENTRY = section -> new Entry(
+            section.getRequiredString("name"),
+            section.getRequiredBoolean("enabled"),
+            section.getRequiredString("material"),
+            section.getRequiredDouble("weight"),
+            section.getStringList("lore").orEmpty(),
+            HAND_WRITTEN_REWARDS.loadFromSection(section.getRequiredSection("rewards")),
+            section.getInteger("priority").withDefault(1));
+
+    private ConfigSection entry;
+    private ConfigSection generatedEntry;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ConfigException {
+        File file = CorpusGenerator.writeTemp(CorpusSize.SMALL);
+        Configurator configurator = new StandardConfigurator();
+        configurator.registerRecord(Rewards.class);
+        configurator.registerRecord(Entry.class);
+        configurator.registerBindable(EntryBean.class);
+        ConfigSection section = YamlConfig.loadSection(file, configurator, null);
+        entry = section.getRequiredSection("entries.entry-0");
+
+        Configurator generatedConfigurator = new StandardConfigurator();
+        RecordBenchmark_RewardsConfigBinding.register(generatedConfigurator);
+        RecordBenchmark_EntryConfigBinding.register(generatedConfigurator);
+        ConfigSection generatedSection = YamlConfig.loadSection(file, generatedConfigurator, null);
+        generatedEntry = generatedSection.getRequiredSection("entries.entry-0");
+        file.delete();
+    }
+
+    @Benchmark
+    public Entry recordLoader() throws InvalidConfigException {
+        return entry.getRequired(Entry.class);
+    }
+
+    @Benchmark
+    public EntryBean classLoader() throws InvalidConfigException {
+        return entry.getRequired(EntryBean.class);
+    }
+
+    @Benchmark
+    public Entry generatedLoader() throws InvalidConfigException {
+        return generatedEntry.getRequired(Entry.class);
+    }
+
+    @Benchmark
+    public Entry handWrittenLoader() throws InvalidConfigException {
+        return HAND_WRITTEN_ENTRY.loadFromSection(entry);
+    }
+
+}
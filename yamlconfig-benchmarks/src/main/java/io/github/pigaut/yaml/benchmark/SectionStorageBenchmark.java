@@ -0,0 +1,95 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.configurator.*;
+import io.github.pigaut.yaml.node.*;
+import io.github.pigaut.yaml.node.section.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+/**
+ * Measures reads from the small sections that make up most data files, run {@link #main(String[])}
+ * to print the retained heap of a tree of around 100k nodes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SectionStorageBenchmark {
+
+    public static final int TREE_BYTES = 2200 * 1024;
+
+    private ConfigSection entry;
+    private ConfigSection rewards;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ConfigLoadException {
+        File file = CorpusGenerator.writeTemp(CorpusSize.MEDIUM);
+        ConfigSection section = YamlConfig.loadSection(file);
+        file.delete();
+        entry = section.getSection("entries.entry-100").orElse(null);
+        rewards = section.getSection("entries.entry-100.rewards").orElse(null);
+    }
+
+    @Benchmark
+    public Integer firstKey() {
+        return rewards.getInteger("minimum").orElse(null);
+    }
+
+    @Benchmark
+    public Integer lastKey() {
+        return rewards.getInteger("maximum").orElse(null);
+    }
+
+    @Benchmark
+    public ConfigSequence lastKeyOfNine() {
+        return entry.getSequence("chances").orElse(null);
+    }
+
+    @Benchmark
+    public Integer miss() {
+        return rewards.getInteger("missing").orElse(null);
+    }
+
+    @Benchmark
+    public int iterate() {
+        int count = 0;
+        for (KeyedField field : rewards) {
+            count++;
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws ConfigLoadException {
+        String yaml = CorpusGenerator.generate(TREE_BYTES, CorpusGenerator.DEFAULT_SEED);
+        new RootSection(new StandardConfigurator()).loadFromReader(new StringReader(yaml));
+
+        long before = HeapUsage.usedHeap();
+        RootSection root = new RootSection(new StandardConfigurator());
+        root.loadFromReader(new StringReader(yaml));
+        long retained = HeapUsage.usedHeap() - before;
+
+        long nodes = countNodes(root);
+        System.out.printf("%d nodes: %d KB retained, %d bytes per node%n", nodes, retained >> 10, retained / nodes);
+    }
+
+    private static long countNodes(ConfigField field) {
+        long count = 1;
+        if (field instanceof ConfigSection section) {
+            for (KeyedField child : section) {
+                count += countNodes(child);
+            }
+        }
+        else if (field instanceof ConfigSequence sequence) {
+            for (KeylessField child : sequence) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.line.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Loading a file that is mostly text, like a language file or a list of items, where every key and most values
+ * are strings, and reading its action lines, whose values are parsed as scalars.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StringLoadBenchmark {
+
+    private static final int ITEMS = 2000;
+    private static final String[] WORDS = {
+            "diamond", "sword", "of", "the", "ancient", "king", "sharp", "blade", "forged", "in", "fire",
+            "legendary", "shield", "golden", "apple", "heals", "you", "when", "eaten", "rare", "drop"
+    };
+
+    private File file;
+    private List<ConfigScalar> actions;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, ConfigLoadException, InvalidConfigException {
+        File directory = Files.createTempDirectory("yamlconfig-strings").toFile();
+        directory.deleteOnExit();
+        file = new File(directory, "items.yml");
+        file.deleteOnExit();
+        Files.writeString(file.toPath(), generate(), StandardCharsets.UTF_8);
+
+        actions = new ArrayList<>();
+        ConfigSection items = YamlConfig.loadSection(file).getSection("items").orThrow();
+        for (ConfigSection item : items.getNestedSections()) {
+            for (ConfigField action : item.getSequence("actions").orThrow()) {
+                actions.add((ConfigScalar) action);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        file.delete();
+    }
+
+    @Benchmark
+    public ConfigRoot loadConfig() throws ConfigLoadException {
+        return YamlConfig.loadConfig(file);
+    }
+
+    @Benchmark
+    public void readLines(Blackhole blackhole) {
+        for (ConfigScalar action : actions) {
+            for (ConfigScalar value : new Line(action, LineStyle.LABELED)) {
+                blackhole.consume(value.getValue());
+            }
+        }
+    }
+
+    private static String generate() {
+        Random random = new Random(CorpusGenerator.DEFAULT_SEED);
+        StringBuilder yaml = new StringBuilder("items:\n");
+        for (int i = 0; i < ITEMS; i++) {
+            yaml.append("  ").append(words(random, 2, "_")).append('_').append(i).append(":\n");
+            yaml.append("    display-name: \"&6").append(words(random, 3, " ")).append("\"\n");
+            yaml.append("    material: ").append(words(random, 2, "_").toUpperCase()).append('\n');
+            yaml.append("    permission: items.").append(words(random, 2, ".")).append('\n');
+            yaml.append("    lore:\n");
+            for (int j = 0; j < 3; j++) {
+                yaml.append("      - \"&7").append(words(random, 6, " ")).append("\"\n");
+            }
+            yaml.append("    actions:\n");
+            yaml.append("      - \"message ").append(words(random, 4, " ")).append(" delay=20\"\n");
+            yaml.append("      - \"sound ").append(words(random, 2, "_")).append(", loud, 0.5\"\n");
+        }
+        return yaml.toString();
+    }
+
+    private static String words(Random random, int count, String separator) {
+        StringJoiner joiner = new StringJoiner(separator);
+        for (int i = 0; i < count; i++) {
+            joiner.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return joiner.toString();
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.github.pigaut.yaml.benchmark;
+
+import io.github.pigaut.yaml.*;
+import io.github.pigaut.yaml.node.*;
+import io.github.pigaut.yaml.node.section.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+/**
+ * Compares mapping a composed node graph against building the config tree straight from parser events.
+ * Run with {@code -prof gc} for allocation rates, or run {@link #main(String[])} to print the peak heap of each path.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TreeBuilderBenchmark {
+
+    @Param({"SMALL", "MEDIUM"})
+    public CorpusSize size;
+
+    private String yaml;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        yaml = CorpusGenerator.generate(size);
+    }
+
+    @Benchmark
+    public RootSection composeAndMap() {
+        return composeAndMap(yaml);
+    }
+
+    @Benchmark
+    public RootSection buildFromEvents() throws ConfigLoadException {
+        return buildFromEvents(yaml);
+    }
+
+    private static RootSection composeAndMap(String yaml) {
+        RootSection section = YamlConfig.createEmptySection();
+        section.map(new ConfigLoad().loadFromReader(new StringReader(yaml)));
+        return section;
+    }
+
+    private static RootSection buildFromEvents(String yaml) throws ConfigLoadException {
+        RootSection section = YamlConfig.createEmptySection();
+        section.loadFromReader(new StringReader(yaml));
+        return section;
+    }
+
+    public static void main(String[] args) throws ConfigLoadException {
+        CorpusSize size = args.length > 0 ? CorpusSize.valueOf(args[0]) : CorpusSize.MEDIUM;
+        String yaml = CorpusGenerator.generate(size);
+
+        long before = HeapUsage.resetPeakHeap();
+        RootSection mapped = composeAndMap(yaml);
+        System.out.printf("composeAndMap   %s: %d MB peak heap%n", size, (HeapUsage.peakHeap() - before) >> 20);
+        mapped = null;
+
+        before = HeapUsage.resetPeakHeap();
+        RootSection built = buildFromEvents(yaml);
+        System.out.printf("buildFromEvents %s: %d MB peak heap%n", size, (HeapUsage.peakHeap() - before) >> 20);
+    }
+
+}
@@ -0,0 +1,20 @@
+package io.github.pigaut.yaml.processor;
+
+import javax.lang.model.element.*;
+
+class BindingException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Element element;
+
+    BindingException(Element element, String message) {
+        super(message);
+        this.element = element;
+    }
+
+    Element getElement() {
+        return element;
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.github.pigaut.yaml.processor;
+
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+
+/**
+ * A record component or field of a bindable type. The getter is the expression read from an instance and the
+ * setter a format for the statement that writes to one, null for records which are created through their constructor.
+ */
+class BindingProperty {
+
+    private final Element element;
+    private final String name;
+    private final TypeMirror type;
+    private final String path;
+    private final String defaultValue;
+    private final String getter;
+    private final String setter;
+
+    BindingProperty(Element element, String name, TypeMirror type, String path, String defaultValue,
+                    String getter, String setter) {
+        this.element = element;
+        this.name = name;
+        this.type = type;
+        this.path = path;
+        this.defaultValue = defaultValue;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    Element getElement() {
+        return element;
+    }
+
+    String getName() {
+        return name;
+    }
+
+    TypeMirror getType() {
+        return type;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    String getDefaultValue() {
+        return defaultValue;
+    }
+
+    String getGetter() {
+        return getter;
+    }
+
+    String getSetter() {
+        return setter;
+    }
+
+}
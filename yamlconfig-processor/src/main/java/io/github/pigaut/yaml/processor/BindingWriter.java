@@ -0,0 +1,318 @@
+package io.github.pigaut.yaml.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Writes the binding class of a bindable type. Generated code uses fully qualified names so it cannot clash
+ * with the names of the bound type.
+ */
+class BindingWriter {
+
+    private static final String CONFIG_PATH = "io.github.pigaut.yaml.path.ConfigPath";
+    private static final String CONFIG_SECTION = "io.github.pigaut.yaml.ConfigSection";
+    private static final String INVALID_CONFIG_EXCEPTION = "io.github.pigaut.yaml.InvalidConfigException";
+    private static final String CONFIGURATOR = "io.github.pigaut.yaml.configurator.Configurator";
+    private static final String SECTION_LOADER = "io.github.pigaut.yaml.configurator.load.ConfigLoader.Section";
+    private static final String SECTION_MAPPER = "io.github.pigaut.yaml.configurator.map.ConfigMapper.Section";
+
+    private static final Set<String> RESERVED_NAMES = Set.of("section", "value", "e");
+
+    private final ProcessingEnvironment processingEnv;
+    private final TypeElement type;
+    private final List<BindingProperty> properties;
+    private final String packageName;
+    private final String bindingName;
+    private final String typeName;
+
+    BindingWriter(ProcessingEnvironment processingEnv, TypeElement type, List<BindingProperty> properties) {
+        this.processingEnv = processingEnv;
+        this.type = type;
+        this.properties = properties;
+        this.packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        this.typeName = type.getQualifiedName().toString();
+        String nestedName = packageName.isEmpty() ? typeName : typeName.substring(packageName.length() + 1);
+        this.bindingName = nestedName.replace('.', '_') + "ConfigBinding";
+    }
+
+    void write() throws BindingException, IOException {
+        String source = generate();
+        String qualifiedName = packageName.isEmpty() ? bindingName : packageName + "." + bindingName;
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter()) {
+            writer.write(source);
+        }
+    }
+
+    private String generate() throws BindingException {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("/**\n");
+        source.append(" * Loader and mapper for {@link ").append(typeName).append("}, generated by the YamlConfig annotation processor.\n");
+        source.append(" */\n");
+        source.append("public final class ").append(bindingName).append(" {\n\n");
+
+        for (BindingProperty property : properties) {
+            source.append("    private static final ").append(CONFIG_PATH).append(' ').append(getPathConstant(property))
+                    .append(" = ").append(CONFIG_PATH).append(".of(").append(toLiteral(property.getPath())).append(");\n");
+        }
+        if (!properties.isEmpty()) {
+            source.append('\n');
+        }
+
+        source.append("    public static final ").append(SECTION_LOADER).append('<').append(typeName).append("> LOADER = ")
+                .append(bindingName).append("::load;\n");
+        source.append("    public static final ").append(SECTION_MAPPER).append('<').append(typeName).append("> MAPPER = ")
+                .append(bindingName).append("::map;\n\n");
+
+        source.append("    private ").append(bindingName).append("() {}\n\n");
+
+        source.append("    public static void register(").append(CONFIGURATOR).append(" configurator) {\n");
+        source.append("        configurator.addLoader(").append(typeName).append(".class, LOADER);\n");
+        source.append("        configurator.addMapper(").append(typeName).append(".class, MAPPER);\n");
+        source.append("    }\n\n");
+
+        appendLoad(source);
+        appendMap(source);
+
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private void appendLoad(StringBuilder source) throws BindingException {
+        source.append("    @SuppressWarnings(\"unchecked\")\n");
+        source.append("    public static ").append(typeName).append(" load(").append(CONFIG_SECTION).append(" section) throws ")
+                .append(INVALID_CONFIG_EXCEPTION).append(" {\n");
+        for (BindingProperty property : properties) {
+            source.append("        ").append(getTypeName(property.getElement(), property.getType())).append(' ')
+                    .append(getLocalName(property)).append(" = ").append(getReadExpression(property)).append(";\n");
+        }
+
+        source.append("        try {\n");
+        if (type.getKind() == ElementKind.RECORD) {
+            source.append("            return new ").append(typeName).append('(');
+            for (int i = 0; i < properties.size(); i++) {
+                if (i > 0) {
+                    source.append(", ");
+                }
+                source.append(getLocalName(properties.get(i)));
+            }
+            source.append(");\n");
+        }
+        else {
+            source.append("            ").append(typeName).append(" value = new ").append(typeName).append("();\n");
+            for (BindingProperty property : properties) {
+                source.append("            value.").append(String.format(property.getSetter(), getLocalName(property))).append(";\n");
+            }
+            source.append("            return value;\n");
+        }
+        source.append("        } catch (IllegalArgumentException | IllegalStateException e) {\n");
+        source.append("            throw new ").append(INVALID_CONFIG_EXCEPTION).append("(section, e.getMessage());\n");
+        source.append("        }\n");
+        source.append("    }\n\n");
+    }
+
+    private void appendMap(StringBuilder source) throws BindingException {
+        source.append("    public static void map(").append(CONFIG_SECTION).append(" section, ").append(typeName).append(" value) {\n");
+        for (BindingProperty property : properties) {
+            String getter = "value." + property.getGetter();
+            if (property.getType().getKind().isPrimitive()) {
+                source.append("        section.set(").append(getPathConstant(property)).append(", ").append(getter).append(");\n");
+                continue;
+            }
+            String localName = getLocalName(property);
+            source.append("        ").append(getTypeName(property.getElement(), property.getType())).append(' ').append(localName)
+                    .append(" = ").append(getter).append(";\n");
+            source.append("        if (").append(localName).append(" != null) {\n");
+            source.append("            section.set(").append(getPathConstant(property)).append(", ").append(localName).append(");\n");
+            source.append("        }\n");
+        }
+        source.append("    }\n\n");
+    }
+
+    // Scalars use the typed getters, lists are loaded element by element and default to an empty list
+    private String getReadExpression(BindingProperty property) throws BindingException {
+        TypeMirror propertyType = property.getType();
+        String path = getPathConstant(property);
+        String defaultValue = property.getDefaultValue();
+
+        String getter = getScalarGetter(propertyType);
+        if (getter != null) {
+            String read = "section." + getter + "(" + path + ")";
+            return defaultValue != null
+                    ? read + ".withDefault(" + toDefaultLiteral(property, getter, defaultValue) + ")"
+                    : read + ".orThrow()";
+        }
+
+        if (defaultValue != null) {
+            throw new BindingException(property.getElement(), "@ConfigDefault is only supported for strings, numbers, booleans and characters");
+        }
+
+        if (propertyType.getKind().isPrimitive()) {
+            String boxedName = processingEnv.getTypeUtils().boxedClass((PrimitiveType) propertyType).getQualifiedName().toString();
+            return "section.get(" + path + ", " + boxedName + ".class).orThrow()";
+        }
+
+        if (propertyType.getKind() != TypeKind.DECLARED) {
+            throw new BindingException(property.getElement(), "Unsupported property type: " + propertyType);
+        }
+
+        DeclaredType declaredType = (DeclaredType) propertyType;
+        String rawName = ((TypeElement) declaredType.asElement()).getQualifiedName().toString();
+        if (rawName.equals("java.util.List") && declaredType.getTypeArguments().size() == 1
+                && declaredType.getTypeArguments().get(0).getKind() == TypeKind.DECLARED) {
+            DeclaredType elementType = (DeclaredType) declaredType.getTypeArguments().get(0);
+            String elementName = ((TypeElement) elementType.asElement()).getQualifiedName().toString();
+            String cast = elementType.getTypeArguments().isEmpty() ? "" : "(" + getTypeName(property.getElement(), propertyType) + ") (java.util.List<?>) ";
+            return cast + "section.getList(" + path + ", " + elementName + ".class).orEmpty()";
+        }
+
+        String read = "section.get(" + path + ", " + rawName + ".class).orThrow()";
+        if (!declaredType.getTypeArguments().isEmpty()) {
+            return "(" + getTypeName(property.getElement(), propertyType) + ") " + read;
+        }
+        return read;
+    }
+
+    private static String getScalarGetter(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN: return "getBoolean";
+            case CHAR: return "getCharacter";
+            case INT: return "getInteger";
+            case LONG: return "getLong";
+            case FLOAT: return "getFloat";
+            case DOUBLE: return "getDouble";
+            case DECLARED: break;
+            default: return null;
+        }
+
+        String name = ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        switch (name) {
+            case "java.lang.String": return "getString";
+            case "java.lang.Boolean": return "getBoolean";
+            case "java.lang.Character": return "getCharacter";
+            case "java.lang.Integer": return "getInteger";
+            case "java.lang.Long": return "getLong";
+            case "java.lang.Float": return "getFloat";
+            case "java.lang.Double": return "getDouble";
+            default: return null;
+        }
+    }
+
+    // Defaults are checked here, so an invalid default fails the build instead of the load
+    private static String toDefaultLiteral(BindingProperty property, String getter, String value) throws BindingException {
+        try {
+            switch (getter) {
+                case "getString": return toLiteral(value);
+                case "getInteger": return Integer.toString(Integer.parseInt(value.trim()));
+                case "getLong": return Long.parseLong(value.trim()) + "L";
+                case "getFloat": return toFiniteLiteral(Float.parseFloat(value.trim())) + "f";
+                case "getDouble": return toFiniteLiteral(Double.parseDouble(value.trim()));
+                case "getBoolean":
+                    if (value.equalsIgnoreCase("true") || value.equalsIgnoreCase("false")) {
+                        return value.toLowerCase(Locale.ROOT);
+                    }
+                    break;
+                case "getCharacter":
+                    if (value.length() == 1) {
+                        return "'" + escape(value, '\'') + "'";
+                    }
+                    break;
+            }
+        } catch (NumberFormatException ignored) {}
+        throw new BindingException(property.getElement(), "Invalid default value for " + property.getName() + ": '" + value + "'");
+    }
+
+    private static String toFiniteLiteral(double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new NumberFormatException();
+        }
+        return Double.toString(value);
+    }
+
+    private String getTypeName(Element element, TypeMirror type) throws BindingException {
+        switch (type.getKind()) {
+            case BOOLEAN: case BYTE: case SHORT: case INT: case LONG: case CHAR: case FLOAT: case DOUBLE:
+                return type.getKind().name().toLowerCase(Locale.ROOT);
+            case ARRAY:
+                return getTypeName(element, ((ArrayType) type).getComponentType()) + "[]";
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null) {
+                    return "? extends " + getTypeName(element, wildcard.getExtendsBound());
+                }
+                if (wildcard.getSuperBound() != null) {
+                    return "? super " + getTypeName(element, wildcard.getSuperBound());
+                }
+                return "?";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                StringBuilder name = new StringBuilder(((TypeElement) declaredType.asElement()).getQualifiedName());
+                List<? extends TypeMirror> arguments = declaredType.getTypeArguments();
+                if (!arguments.isEmpty()) {
+                    name.append('<');
+                    for (int i = 0; i < arguments.size(); i++) {
+                        if (i > 0) {
+                            name.append(", ");
+                        }
+                        name.append(getTypeName(element, arguments.get(i)));
+                    }
+                    name.append('>');
+                }
+                return name.toString();
+            default:
+                throw new BindingException(element, "Unsupported property type: " + type);
+        }
+    }
+
+    private static String getLocalName(BindingProperty property) {
+        String name = property.getName();
+        return RESERVED_NAMES.contains(name) ? name + "Value" : name;
+    }
+
+    private static String getPathConstant(BindingProperty property) {
+        StringBuilder constant = new StringBuilder();
+        for (char c : property.getName().toCharArray()) {
+            if (Character.isUpperCase(c) && constant.length() > 0) {
+                constant.append('_');
+            }
+            constant.append(Character.toUpperCase(c));
+        }
+        return constant.append("_PATH").toString();
+    }
+
+    private static String toLiteral(String value) {
+        return "\"" + escape(value, '"') + "\"";
+    }
+
+    private static String escape(String value, char quote) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : value.toCharArray()) {
+            if (c == quote || c == '\\') {
+                escaped.append('\\').append(c);
+            }
+            else if (c == '\n') {
+                escaped.append("\\n");
+            }
+            else if (c == '\r') {
+                escaped.append("\\r");
+            }
+            else if (c == '\t') {
+                escaped.append("\\t");
+            }
+            else if (c < 0x20 || c > 0x7e) {
+                escaped.append(String.format("\\u%04x", (int) c));
+            }
+            else {
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+}
@@ -0,0 +1,171 @@
+package io.github.pigaut.yaml.processor;
+
+import javax.annotation.processing.*;
+import javax.lang.model.*;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.*;
+import javax.tools.*;
+import java.io.*;
+import java.util.*;
+
+/**
+ * Generates a {@code <Name>ConfigBinding} class for every type annotated with {@code @ConfigBindable}, holding a
+ * loader and a mapper that read and write each property with the typed section getters and precomputed paths.
+ */
+// Key and default annotations are claimed as well, they are read while processing their bindable type. Unclaimed
+// annotations make javac warn under -Xlint:processing, which fails builds with -Werror
+@SupportedAnnotationTypes({
+        ConfigBindableProcessor.CONFIG_BINDABLE,
+        ConfigBindableProcessor.CONFIG_KEY,
+        ConfigBindableProcessor.CONFIG_DEFAULT
+})
+public class ConfigBindableProcessor extends AbstractProcessor {
+
+    static final String CONFIG_BINDABLE = "io.github.pigaut.yaml.configurator.record.ConfigBindable";
+    static final String CONFIG_KEY = "io.github.pigaut.yaml.configurator.record.ConfigKey";
+    static final String CONFIG_DEFAULT = "io.github.pigaut.yaml.configurator.record.ConfigDefault";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Messager messager = processingEnv.getMessager();
+        for (TypeElement annotation : annotations) {
+            if (!annotation.getQualifiedName().contentEquals(CONFIG_BINDABLE)) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                TypeElement type = (TypeElement) element;
+                try {
+                    checkAccessible(type);
+                    List<BindingProperty> properties = type.getKind() == ElementKind.RECORD
+                            ? collectComponents(type)
+                            : collectFields(type);
+                    new BindingWriter(processingEnv, type, properties).write();
+                } catch (BindingException e) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.getElement());
+                } catch (IOException e) {
+                    messager.printMessage(Diagnostic.Kind.ERROR, "Could not write config binding: " + e.getMessage(), type);
+                }
+            }
+        }
+        return true;
+    }
+
+    private void checkAccessible(TypeElement type) throws BindingException {
+        if (type.getKind() != ElementKind.RECORD && type.getKind() != ElementKind.CLASS) {
+            throw new BindingException(type, "@ConfigBindable can only be used on records and classes");
+        }
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+            throw new BindingException(type, "@ConfigBindable cannot be used on abstract classes");
+        }
+        if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+            throw new BindingException(type, "@ConfigBindable cannot be used on local classes");
+        }
+        if (type.getKind() == ElementKind.CLASS && type.getNestingKind() == NestingKind.MEMBER
+                && !type.getModifiers().contains(Modifier.STATIC)) {
+            throw new BindingException(type, "@ConfigBindable cannot be used on inner classes");
+        }
+        for (Element element = type; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                throw new BindingException(type, "@ConfigBindable types cannot be private");
+            }
+        }
+    }
+
+    private List<BindingProperty> collectComponents(TypeElement type) {
+        // Errors are reported on the backing fields, the compiler has no source position for record components
+        Map<String, Element> fields = new HashMap<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            fields.put(field.getSimpleName().toString(), field);
+        }
+
+        List<BindingProperty> properties = new ArrayList<>();
+        for (RecordComponentElement component : type.getRecordComponents()) {
+            String name = component.getSimpleName().toString();
+            Element element = fields.getOrDefault(name, component);
+            properties.add(new BindingProperty(element, name, component.asType(),
+                    getPath(component, name), getDefault(component), name + "()", null));
+        }
+        return properties;
+    }
+
+    private List<BindingProperty> collectFields(TypeElement type) throws BindingException {
+        boolean hasConstructor = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE)) {
+                hasConstructor = true;
+            }
+        }
+        if (!hasConstructor) {
+            throw new BindingException(type, "@ConfigBindable classes need a non-private constructor without parameters");
+        }
+
+        List<ExecutableElement> methods = ElementFilter.methodsIn(type.getEnclosedElements());
+        List<BindingProperty> properties = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC) || modifiers.contains(Modifier.TRANSIENT)) {
+                continue;
+            }
+
+            String name = field.getSimpleName().toString();
+            String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            String getter;
+            String setter;
+            if (!modifiers.contains(Modifier.PRIVATE)) {
+                getter = name;
+                setter = modifiers.contains(Modifier.FINAL) ? null : name + " = %s";
+            }
+            else {
+                String getterName = field.asType().getKind() == TypeKind.BOOLEAN ? "is" + capitalized : "get" + capitalized;
+                getter = findMethod(methods, getterName, 0) ? getterName + "()" : null;
+                setter = findMethod(methods, "set" + capitalized, 1) ? "set" + capitalized + "(%s)" : null;
+            }
+            if (getter == null || setter == null) {
+                throw new BindingException(field, "Field must be non-private and non-final, or have a getter and a setter");
+            }
+            properties.add(new BindingProperty(field, name, field.asType(), getPath(field, name), getDefault(field), getter, setter));
+        }
+        return properties;
+    }
+
+    private static boolean findMethod(List<ExecutableElement> methods, String name, int parameters) {
+        for (ExecutableElement method : methods) {
+            if (method.getSimpleName().contentEquals(name) && method.getParameters().size() == parameters
+                    && !method.getModifiers().contains(Modifier.PRIVATE) && !method.getModifiers().contains(Modifier.STATIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getPath(Element element, String name) {
+        String key = getAnnotationValue(element, CONFIG_KEY);
+        return key != null ? key : name;
+    }
+
+    private static String getDefault(Element element) {
+        return getAnnotationValue(element, CONFIG_DEFAULT);
+    }
+
+    private static String getAnnotationValue(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (!annotationType.getQualifiedName().contentEquals(annotationName)) {
+                continue;
+            }
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+                if (entry.getKey().getSimpleName().contentEquals("value")) {
+                    return (String) entry.getValue().getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+}